@@ -0,0 +1,30 @@
+package com.example.color_walk.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    public static final String AI_RESULT_EXECUTOR = "aiResultExecutor";
+
+    /**
+     * AI 응답을 받은 뒤의 블로킹 작업(분석 결과 저장, 포인트 적립) 실행용 스레드 풀
+     * - Gemini 응답은 HttpClient 의 기본 executor(크기 제한이 없는 캐시 풀)에서 완료되므로,
+     *   그 스레드가 JDBC 호출을 기다리며 계속 늘어나지 않도록 크기가 정해진 풀로 넘겨 실행
+     * - 대기열까지 가득 차면 TaskRejectedException 으로 실패
+     */
+    @Bean(name = AI_RESULT_EXECUTOR)
+    public ThreadPoolTaskExecutor aiResultExecutor(@Value("${ai.result-executor.pool-size:8}") int poolSize,
+                                                   @Value("${ai.result-executor.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ai-result-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.color_walk.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+@Configuration
+public class HttpClientConfig {
+
+    /**
+     * Gemini 호출용 비동기 HTTP 클라이언트
+     * - 응답을 기다리는 동안 요청 스레드를 점유하지 않음 (sendAsync)
+     */
+    @Bean
+    public HttpClient geminiHttpClient(@Value("${gemini.http.connect-timeout-ms:3000}") long connectTimeoutMillis) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .build();
+    }
+}
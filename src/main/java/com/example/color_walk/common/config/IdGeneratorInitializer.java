@@ -0,0 +1,66 @@
+package com.example.color_walk.common.config;
+
+import com.example.color_walk.domain.WalkingPoint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * walking_point 의 채번 방식이 IDENTITY 에서 테이블 기반으로 바뀌었기 때문에
+ * 기존 데이터의 최대 id 보다 큰 값에서 채번이 시작되도록 id_generator 값을 맞춰준다.
+ * - EntityManagerFactory 가 이 빈에 의존하도록 해, Hibernate 가 id 블록을 처음 할당하기 전에 실행
+ *   (요청을 받기 시작한 뒤에 맞추면 이미 메모리에 할당된 낮은 id 블록은 고쳐지지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdGeneratorInitializer implements InitializingBean {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        // 스키마 생성보다 먼저 실행되므로 채번 테이블이 없으면 Hibernate 와 같은 구조로 직접 생성
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + WalkingPoint.ID_GENERATOR_TABLE +
+                " (sequence_name VARCHAR(255) NOT NULL, next_val BIGINT, PRIMARY KEY (sequence_name))");
+
+        long maxId = walkingPointTableExists()
+                ? jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM walking_point", Long.class)
+                : 0L;
+        long safeNextValue = maxId + WalkingPoint.ID_ALLOCATION_SIZE + 1;
+
+        int updated = jdbcTemplate.update(
+                "UPDATE " + WalkingPoint.ID_GENERATOR_TABLE + " SET next_val = GREATEST(next_val, ?) WHERE sequence_name = ?",
+                safeNextValue, WalkingPoint.ID_GENERATOR_KEY);
+
+        if (updated == 0) {
+            jdbcTemplate.update(
+                    "INSERT INTO " + WalkingPoint.ID_GENERATOR_TABLE + " (sequence_name, next_val) VALUES (?, ?)",
+                    WalkingPoint.ID_GENERATOR_KEY, safeNextValue);
+        }
+
+        log.info("walking_point 채번 시작값 확인 완료 - next_val >= {}", safeNextValue);
+    }
+
+    private boolean walkingPointTableExists() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables " +
+                        "WHERE table_schema = DATABASE() AND table_name = 'walking_point'",
+                Integer.class);
+        return count != null && count > 0;
+    }
+
+    /**
+     * EntityManagerFactory 생성 전에 IdGeneratorInitializer 가 먼저 초기화되도록 의존 관계 추가
+     */
+    @Component
+    static class EntityManagerFactoryDependsOnIdGenerator extends EntityManagerFactoryDependsOnPostProcessor {
+
+        EntityManagerFactoryDependsOnIdGenerator() {
+            super(IdGeneratorInitializer.class);
+        }
+    }
+}
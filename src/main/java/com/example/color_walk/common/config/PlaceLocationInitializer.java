@@ -0,0 +1,60 @@
+package com.example.color_walk.common.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * places 테이블에 공간 조회용 location 컬럼과 SPATIAL INDEX 를 만든다.
+ * - location 은 latitude/longitude 로 계산되는 STORED 생성 컬럼이라 엔티티에서 따로 관리하지 않아도 항상 일치
+ * - SRID 4326 의 좌표 순서는 (위도, 경도)
+ * - 공간 함수를 지원하지 않는 DB 라면 경고만 남기고 위경도 범위 조회를 계속 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceLocationInitializer implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Getter
+    private volatile boolean available;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            if (!columnExists()) {
+                jdbcTemplate.execute("ALTER TABLE places ADD COLUMN location POINT SRID 4326 " +
+                        "GENERATED ALWAYS AS (ST_SRID(POINT(latitude, longitude), 4326)) STORED NOT NULL");
+                log.info("places.location 컬럼 생성 완료");
+            }
+            if (!indexExists()) {
+                jdbcTemplate.execute("ALTER TABLE places ADD SPATIAL INDEX idx_places_location (location)");
+                log.info("places.location SPATIAL INDEX 생성 완료");
+            }
+            available = true;
+        } catch (Exception e) {
+            log.warn("places.location 공간 컬럼을 준비하지 못해 위경도 범위 조회를 사용합니다: {}", e.getMessage());
+        }
+    }
+
+    private boolean columnExists() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns " +
+                        "WHERE table_schema = DATABASE() AND table_name = 'places' AND column_name = 'location'",
+                Integer.class);
+        return count != null && count > 0;
+    }
+
+    private boolean indexExists() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                        "WHERE table_schema = DATABASE() AND table_name = 'places' AND index_name = 'idx_places_location'",
+                Integer.class);
+        return count != null && count > 0;
+    }
+}
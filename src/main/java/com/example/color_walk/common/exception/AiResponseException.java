@@ -0,0 +1,22 @@
+package com.example.color_walk.common.exception;
+
+import lombok.Getter;
+
+/**
+ * 외부 AI 가 2xx 가 아닌 상태 코드로 응답했을 때 발생
+ * - 5xx/429 는 AI 쪽 장애나 과부하, 그 외 4xx 는 잘못된 요청(우리 쪽 문제)으로 구분
+ */
+@Getter
+public class AiResponseException extends RuntimeException {
+
+    private final int statusCode;
+
+    public AiResponseException(int statusCode, String message) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    public boolean isServiceFailure() {
+        return statusCode >= 500 || statusCode == 429;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.color_walk.common.exception;
+
+/**
+ * AI 호출을 보내지 않고 차단했을 때 발생 (서킷 오픈, 동시 호출 한도 초과)
+ * - 호출한 쪽은 이 예외를 받으면 로컬 대체 결과로 응답
+ */
+public class AiUnavailableException extends RuntimeException {
+
+    public AiUnavailableException(String message) {
+        super(message);
+    }
+}
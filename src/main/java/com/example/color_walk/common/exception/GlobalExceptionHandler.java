@@ -2,6 +2,7 @@ package com.example.color_walk.common.exception;
 
 import com.amazonaws.services.s3.model.AmazonS3Exception;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -99,6 +100,57 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(e.getStatusCode()).body(errorResponse);
     }
 
+    /**
+     * 데이터 무결성 위반 예외 처리
+     * - 같은 산책에 중복된 순번의 GPS 포인트가 저장되는 경우 등
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<Map<String, Object>> handleDataIntegrityViolationException(DataIntegrityViolationException e) {
+        log.error("DataIntegrityViolationException 발생: {}", e.getMostSpecificCause().getMessage());
+
+        Map<String, Object> errorResponse = createErrorResponse(
+                "DUPLICATE_DATA",
+                "이미 저장된 데이터와 충돌합니다. 다시 시도해주세요.",
+                HttpStatus.CONFLICT
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * AI 호출 차단 예외 처리
+     * - 서킷 브레이커가 열려 있거나 동시 호출 한도를 넘은 경우
+     */
+    @ExceptionHandler(AiUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handleAiUnavailableException(AiUnavailableException e) {
+        log.warn("AiUnavailableException 발생: {}", e.getMessage());
+
+        Map<String, Object> errorResponse = createErrorResponse(
+                "AI_UNAVAILABLE",
+                "AI 분석 서비스가 일시적으로 혼잡합니다. 잠시 후 다시 시도해주세요.",
+                HttpStatus.SERVICE_UNAVAILABLE
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
+    /**
+     * GPS 포인트 저장 지연 예외 처리
+     * - DB 장애로 버퍼를 비우지 못해 새 포인트를 받을 수 없는 경우 (클라이언트가 재시도)
+     */
+    @ExceptionHandler(PointStorageUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handlePointStorageUnavailableException(PointStorageUnavailableException e) {
+        log.warn("PointStorageUnavailableException 발생: {}", e.getMessage());
+
+        Map<String, Object> errorResponse = createErrorResponse(
+                "POINT_STORAGE_UNAVAILABLE",
+                "위치 저장이 일시적으로 지연되고 있습니다. 잠시 후 다시 시도해주세요.",
+                HttpStatus.SERVICE_UNAVAILABLE
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
     /**
      * Runtime 예외 처리 (PhotoService에서 발생할 수 있는 일반적인 런타임 에러)
      */
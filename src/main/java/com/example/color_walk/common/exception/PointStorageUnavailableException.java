@@ -0,0 +1,12 @@
+package com.example.color_walk.common.exception;
+
+/**
+ * GPS 포인트를 저장하지 못해 요청을 받을 수 없을 때 발생 (버퍼가 가득 찬 상태에서 저장 실패 등)
+ * - 버퍼의 포인트는 그대로 남아 있으므로 클라이언트는 잠시 후 같은 요청을 다시 보내면 됨
+ */
+public class PointStorageUnavailableException extends RuntimeException {
+
+    public PointStorageUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
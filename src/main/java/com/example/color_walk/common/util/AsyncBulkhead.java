@@ -0,0 +1,107 @@
+package com.example.color_walk.common.util;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 비동기 작업의 동시 실행 수를 제한하는 벌크헤드
+ * - maxConcurrent 개까지 바로 시작하고, 초과분은 queueCapacity 개까지 대기열에 보관
+ * - 대기열이 가득 찼거나 maxWaitMillis 안에 시작하지 못하면 RejectedExecutionException 으로 완료
+ * - 대기 중에도 스레드를 점유하지 않으며, 앞선 작업이 끝나는 스레드에서 다음 작업을 시작
+ */
+public class AsyncBulkhead {
+
+    private final int maxConcurrent;
+    private final int queueCapacity;
+    private final long maxWaitMillis;
+
+    private final ArrayDeque<Pending<?>> queue = new ArrayDeque<>();
+    private int inFlight;
+
+    public AsyncBulkhead(int maxConcurrent, int queueCapacity, long maxWaitMillis) {
+        if (maxConcurrent <= 0 || queueCapacity < 0) {
+            throw new IllegalArgumentException("동시 실행 수는 0보다 크고 대기열 크기는 0 이상이어야 합니다.");
+        }
+        this.maxConcurrent = maxConcurrent;
+        this.queueCapacity = queueCapacity;
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> task) {
+        Pending<T> pending = new Pending<>(task);
+        synchronized (this) {
+            if (inFlight < maxConcurrent) {
+                inFlight++;
+            } else if (queue.size() < queueCapacity) {
+                queue.add(pending);
+                CompletableFuture.delayedExecutor(maxWaitMillis, TimeUnit.MILLISECONDS)
+                        .execute(() -> expire(pending));
+                return pending.result;
+            } else {
+                return CompletableFuture.failedFuture(new RejectedExecutionException("동시 실행 대기열이 가득 찼습니다."));
+            }
+        }
+        start(pending);
+        return pending.result;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getQueued() {
+        return queue.size();
+    }
+
+    private <T> void start(Pending<T> pending) {
+        CompletableFuture<T> running;
+        try {
+            running = pending.task.get();
+        } catch (RuntimeException e) {
+            running = CompletableFuture.failedFuture(e);
+        }
+        running.whenComplete((value, e) -> {
+            release();
+            if (e != null) {
+                pending.result.completeExceptionally(e);
+            } else {
+                pending.result.complete(value);
+            }
+        });
+    }
+
+    private void release() {
+        Pending<?> next;
+        synchronized (this) {
+            next = queue.poll();
+            if (next == null) {
+                inFlight--;
+                return;
+            }
+        }
+        start(next);
+    }
+
+    private void expire(Pending<?> pending) {
+        boolean removed;
+        synchronized (this) {
+            removed = queue.remove(pending);
+        }
+        if (removed) {
+            pending.result.completeExceptionally(
+                    new RejectedExecutionException("대기 시간(" + maxWaitMillis + "ms) 안에 실행되지 못했습니다."));
+        }
+    }
+
+    private static class Pending<T> {
+        private final Supplier<CompletableFuture<T>> task;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private Pending(Supplier<CompletableFuture<T>> task) {
+            this.task = task;
+        }
+    }
+}
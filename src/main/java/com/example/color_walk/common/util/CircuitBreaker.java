@@ -0,0 +1,135 @@
+package com.example.color_walk.common.util;
+
+/**
+ * 최근 호출의 실패율로 동작하는 서킷 브레이커
+ * - CLOSED: 최근 windowSize 개 결과 중 minimumCalls 이상 쌓였을 때 실패율이 임계값 이상이면 OPEN
+ * - OPEN: openDurationMillis 동안 모든 호출을 거부한 뒤 HALF_OPEN
+ * - HALF_OPEN: halfOpenCalls 개만 시험 호출을 허용하고, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ * - 상태가 바뀌기 전에 시작된 호출의 결과는 tryAcquire 가 돌려준 세대 번호로 구분해 무시
+ */
+public class CircuitBreaker {
+
+    public static final long REJECTED = -1;
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationMillis;
+    private final int halfOpenCalls;
+
+    private final boolean[] failures;
+    private int next;
+    private int recorded;
+    private int failureCount;
+
+    private State state = State.CLOSED;
+    private long generation;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSucceeded;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold,
+                          long openDurationMillis, int halfOpenCalls) {
+        if (windowSize <= 0 || minimumCalls <= 0 || halfOpenCalls <= 0) {
+            throw new IllegalArgumentException("서킷 브레이커 설정값은 0보다 커야 합니다.");
+        }
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationMillis = openDurationMillis;
+        this.halfOpenCalls = halfOpenCalls;
+        this.failures = new boolean[windowSize];
+    }
+
+    /**
+     * 호출 허용 여부 확인 (허용 시 결과 보고에 사용할 세대 번호, 거부 시 REJECTED)
+     */
+    public synchronized long tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openDurationMillis) {
+                return REJECTED;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight >= halfOpenCalls) {
+                return REJECTED;
+            }
+            halfOpenInFlight++;
+        }
+        return generation;
+    }
+
+    public synchronized void onSuccess(long permit) {
+        if (permit != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight--;
+            if (++halfOpenSucceeded >= halfOpenCalls) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure(long permit) {
+        if (permit != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        record(true);
+        if (recorded >= minimumCalls && failureCount * 100.0 / recorded >= failureRateThreshold) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    /**
+     * 허용받았지만 실제로 호출하지 않은 경우 (결과에 포함하지 않음)
+     */
+    public synchronized void release(long permit) {
+        if (permit == generation && state == State.HALF_OPEN) {
+            halfOpenInFlight--;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (recorded == windowSize) {
+            if (failures[next]) {
+                failureCount--;
+            }
+        } else {
+            recorded++;
+        }
+        failures[next] = failed;
+        if (failed) {
+            failureCount++;
+        }
+        next = (next + 1) % windowSize;
+    }
+
+    private void transitionTo(State newState) {
+        state = newState;
+        generation++;
+        halfOpenInFlight = 0;
+        halfOpenSucceeded = 0;
+        if (newState == State.OPEN) {
+            openedAt = System.currentTimeMillis();
+        }
+        if (newState == State.CLOSED) {
+            next = 0;
+            recorded = 0;
+            failureCount = 0;
+        }
+    }
+}
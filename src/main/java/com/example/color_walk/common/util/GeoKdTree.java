@@ -0,0 +1,220 @@
+package com.example.color_walk.common.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 위경도 좌표용 정적 KD-트리
+ * - 좌표를 단위 구 위의 3차원 벡터로 바꿔 저장 (경도 경계, 극지방에서도 거리 순서가 유지됨)
+ * - 두 벡터 사이 현(chord) 길이는 대원 거리와 단조 관계이므로 현 길이로 가지치기 후 미터로 환산
+ * - 생성 후 변경하지 않으며, 항목이 바뀌면 새 트리를 만들어 교체
+ */
+public class GeoKdTree<T> {
+
+    private static final double EARTH_RADIUS_METERS = 6371_000.0;
+
+    private final List<T> items;
+    private final Object[] nodes;
+    private final double[][] vectors;
+
+    public GeoKdTree(List<T> items, ToDoubleFunction<T> latitude, ToDoubleFunction<T> longitude) {
+        this.items = Collections.unmodifiableList(new ArrayList<>(items));
+
+        int size = items.size();
+        Integer[] order = new Integer[size];
+        double[][] source = new double[size][];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+            source[i] = toVector(latitude.applyAsDouble(items.get(i)), longitude.applyAsDouble(items.get(i)));
+        }
+
+        this.nodes = new Object[size];
+        this.vectors = new double[size][];
+        build(order, 0, size, 0, source);
+        for (int i = 0; i < size; i++) {
+            nodes[i] = items.get(order[i]);
+            vectors[i] = source[order[i]];
+        }
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * 반경(미터) 안의 항목을 가까운 순으로 조회
+     */
+    public List<Neighbor<T>> findWithinRadius(double latitude, double longitude, double radiusMeters) {
+        double[] target = toVector(latitude, longitude);
+        double maxChordSquared = chordSquared(radiusMeters);
+
+        List<Neighbor<T>> result = new ArrayList<>();
+        collectWithinRadius(target, maxChordSquared, 0, nodes.length, 0, result);
+        result.sort(Comparator.comparingDouble(Neighbor::getDistanceMeters));
+        return result;
+    }
+
+    /**
+     * 조건을 만족하는 가장 가까운 k개를 조회 (best-first 탐색)
+     * - 영역까지의 최소 거리가 가장 작은 노드부터 방문하고, k번째 후보보다 먼 영역은 방문하지 않음
+     */
+    @SuppressWarnings("unchecked")
+    public List<Neighbor<T>> findNearest(double latitude, double longitude, int k, Predicate<T> filter) {
+        if (k <= 0 || nodes.length == 0) {
+            return List.of();
+        }
+        double[] target = toVector(latitude, longitude);
+
+        // 후보는 가장 먼 항목이 맨 앞에 오도록 유지
+        PriorityQueue<Candidate> best = new PriorityQueue<>(k + 1,
+                Comparator.comparingDouble((Candidate c) -> c.chordSquared).reversed());
+        PriorityQueue<Region> regions = new PriorityQueue<>(Comparator.comparingDouble((Region r) -> r.minChordSquared));
+        regions.add(new Region(0, nodes.length, 0, new double[]{-1, -1, -1}, new double[]{1, 1, 1}, 0.0));
+
+        while (!regions.isEmpty()) {
+            Region region = regions.poll();
+            if (best.size() == k && region.minChordSquared > best.peek().chordSquared) {
+                break;
+            }
+
+            int mid = (region.from + region.to) >>> 1;
+            double chordSquared = squaredDistance(target, vectors[mid]);
+            if (filter == null || filter.test((T) nodes[mid])) {
+                if (best.size() < k) {
+                    best.add(new Candidate(mid, chordSquared));
+                } else if (chordSquared < best.peek().chordSquared) {
+                    best.poll();
+                    best.add(new Candidate(mid, chordSquared));
+                }
+            }
+
+            int axis = region.depth % 3;
+            double split = vectors[mid][axis];
+            if (region.from < mid) {
+                double[] max = region.max.clone();
+                max[axis] = split;
+                regions.add(new Region(region.from, mid, region.depth + 1, region.min, max,
+                        boxDistanceSquared(target, region.min, max)));
+            }
+            if (mid + 1 < region.to) {
+                double[] min = region.min.clone();
+                min[axis] = split;
+                regions.add(new Region(mid + 1, region.to, region.depth + 1, min, region.max,
+                        boxDistanceSquared(target, min, region.max)));
+            }
+        }
+
+        Candidate[] sorted = best.toArray(new Candidate[0]);
+        Arrays.sort(sorted, Comparator.comparingDouble((Candidate c) -> c.chordSquared));
+        List<Neighbor<T>> result = new ArrayList<>(sorted.length);
+        for (Candidate candidate : sorted) {
+            result.add(new Neighbor<>((T) nodes[candidate.index], toMeters(candidate.chordSquared)));
+        }
+        return result;
+    }
+
+    // 구간의 중앙값을 노드로 두고 좌우를 재귀적으로 정렬 (암시적 균형 트리)
+    private static void build(Integer[] order, int from, int to, int depth, double[][] source) {
+        if (to - from <= 1) {
+            return;
+        }
+        int axis = depth % 3;
+        Arrays.sort(order, from, to, Comparator.comparingDouble(i -> source[i][axis]));
+        int mid = (from + to) >>> 1;
+        build(order, from, mid, depth + 1, source);
+        build(order, mid + 1, to, depth + 1, source);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void collectWithinRadius(double[] target, double maxChordSquared, int from, int to, int depth,
+                                     List<Neighbor<T>> result) {
+        if (from >= to) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        double chordSquared = squaredDistance(target, vectors[mid]);
+        if (chordSquared <= maxChordSquared) {
+            result.add(new Neighbor<>((T) nodes[mid], toMeters(chordSquared)));
+        }
+
+        int axis = depth % 3;
+        double diff = target[axis] - vectors[mid][axis];
+        if (diff <= 0 || diff * diff <= maxChordSquared) {
+            collectWithinRadius(target, maxChordSquared, from, mid, depth + 1, result);
+        }
+        if (diff >= 0 || diff * diff <= maxChordSquared) {
+            collectWithinRadius(target, maxChordSquared, mid + 1, to, depth + 1, result);
+        }
+    }
+
+    private static double[] toVector(double latitude, double longitude) {
+        double lat = Math.toRadians(latitude);
+        double lon = Math.toRadians(longitude);
+        double cosLat = Math.cos(lat);
+        return new double[]{cosLat * Math.cos(lon), cosLat * Math.sin(lon), Math.sin(lat)};
+    }
+
+    private static double squaredDistance(double[] a, double[] b) {
+        double dx = a[0] - b[0];
+        double dy = a[1] - b[1];
+        double dz = a[2] - b[2];
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private static double boxDistanceSquared(double[] target, double[] min, double[] max) {
+        double sum = 0;
+        for (int axis = 0; axis < 3; axis++) {
+            double diff = target[axis] < min[axis] ? min[axis] - target[axis]
+                    : target[axis] > max[axis] ? target[axis] - max[axis] : 0;
+            sum += diff * diff;
+        }
+        return sum;
+    }
+
+    private static double chordSquared(double meters) {
+        double angle = Math.min(meters / EARTH_RADIUS_METERS, Math.PI);
+        double chord = 2 * Math.sin(angle / 2);
+        return chord * chord;
+    }
+
+    private static double toMeters(double chordSquared) {
+        double halfChord = Math.min(Math.sqrt(chordSquared) / 2, 1.0);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(halfChord);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Neighbor<T> {
+        private final T item;
+        private final double distanceMeters;
+    }
+
+    @AllArgsConstructor
+    private static class Candidate {
+        private final int index;
+        private final double chordSquared;
+    }
+
+    @AllArgsConstructor
+    private static class Region {
+        private final int from;
+        private final int to;
+        private final int depth;
+        private final double[] min;
+        private final double[] max;
+        private final double minChordSquared;
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.color_walk.common.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * GPS 포인트를 기본형 배열에 담아두는 고정 크기 원형 버퍼
+ * - 객체 생성 없이 위도/경도/시각/순번을 보관
+ * - 스레드 안전하지 않으므로 호출하는 쪽에서 동기화해야 함
+ */
+public class GpsRingBuffer {
+
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final long[] epochMillis;
+    private final int[] sequences;
+
+    private int head;
+    private int size;
+
+    public GpsRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("버퍼 크기는 1 이상이어야 합니다.");
+        }
+        this.latitudes = new double[capacity];
+        this.longitudes = new double[capacity];
+        this.epochMillis = new long[capacity];
+        this.sequences = new int[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return latitudes.length;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean isFull() {
+        return size == capacity();
+    }
+
+    public void add(double latitude, double longitude, long timestamp, int sequence) {
+        if (isFull()) {
+            throw new IllegalStateException("GPS 버퍼가 가득 찼습니다.");
+        }
+        int tail = (head + size) % latitudes.length;
+        latitudes[tail] = latitude;
+        longitudes[tail] = longitude;
+        epochMillis[tail] = timestamp;
+        sequences[tail] = sequence;
+        size++;
+    }
+
+    /**
+     * 현재 버퍼 내용을 저장 순서대로 복사 (버퍼는 비우지 않음)
+     */
+    public Snapshot snapshot() {
+        double[] lat = new double[size];
+        double[] lon = new double[size];
+        long[] millis = new long[size];
+        int[] seq = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            int index = (head + i) % latitudes.length;
+            lat[i] = latitudes[index];
+            lon[i] = longitudes[index];
+            millis[i] = epochMillis[index];
+            seq[i] = sequences[index];
+        }
+        return new Snapshot(lat, lon, millis, seq);
+    }
+
+    /**
+     * 앞에서부터 count 개의 포인트 제거 (저장이 끝난 포인트 정리용)
+     */
+    public void discard(int count) {
+        int removed = Math.min(count, size);
+        head = (head + removed) % latitudes.length;
+        size -= removed;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot {
+        private final double[] latitudes;
+        private final double[] longitudes;
+        private final long[] epochMillis;
+        private final int[] sequences;
+
+        public int size() {
+            return latitudes.length;
+        }
+    }
+}
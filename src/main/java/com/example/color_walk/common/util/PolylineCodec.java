@@ -0,0 +1,116 @@
+package com.example.color_walk.common.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * Google Encoded Polyline 형식의 경로 인코더/디코더
+ * - 좌표는 소수점 5자리(약 1m) 정밀도로 이전 좌표와의 차이만 저장
+ * - 시각 등 정수 값도 같은 방식(델타 + zigzag 가변 길이)으로 저장
+ */
+public class PolylineCodec {
+
+    private static final double COORDINATE_FACTOR = 1e5;
+
+    private PolylineCodec() {
+    }
+
+    public static String encodeCoordinates(double[] latitudes, double[] longitudes) {
+        StringBuilder encoded = new StringBuilder(latitudes.length * 8);
+        long prevLat = 0;
+        long prevLng = 0;
+
+        for (int i = 0; i < latitudes.length; i++) {
+            long lat = Math.round(latitudes[i] * COORDINATE_FACTOR);
+            long lng = Math.round(longitudes[i] * COORDINATE_FACTOR);
+            encodeSigned(lat - prevLat, encoded);
+            encodeSigned(lng - prevLng, encoded);
+            prevLat = lat;
+            prevLng = lng;
+        }
+        return encoded.toString();
+    }
+
+    public static Coordinates decodeCoordinates(String encoded) {
+        double[] latitudes = new double[Math.max(16, encoded.length() / 8)];
+        double[] longitudes = new double[latitudes.length];
+        int count = 0;
+
+        long lat = 0;
+        long lng = 0;
+        int[] index = {0};
+        while (index[0] < encoded.length()) {
+            lat += decodeSigned(encoded, index);
+            lng += decodeSigned(encoded, index);
+
+            if (count == latitudes.length) {
+                latitudes = Arrays.copyOf(latitudes, count * 2);
+                longitudes = Arrays.copyOf(longitudes, count * 2);
+            }
+            latitudes[count] = lat / COORDINATE_FACTOR;
+            longitudes[count] = lng / COORDINATE_FACTOR;
+            count++;
+        }
+        return new Coordinates(Arrays.copyOf(latitudes, count), Arrays.copyOf(longitudes, count));
+    }
+
+    public static String encodeValues(long[] values) {
+        StringBuilder encoded = new StringBuilder(values.length * 2);
+        long prev = 0;
+        for (long value : values) {
+            encodeSigned(value - prev, encoded);
+            prev = value;
+        }
+        return encoded.toString();
+    }
+
+    public static long[] decodeValues(String encoded) {
+        long[] values = new long[Math.max(16, encoded.length() / 2)];
+        int count = 0;
+
+        long value = 0;
+        int[] index = {0};
+        while (index[0] < encoded.length()) {
+            value += decodeSigned(encoded, index);
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = value;
+        }
+        return Arrays.copyOf(values, count);
+    }
+
+    private static void encodeSigned(long value, StringBuilder out) {
+        long zigzag = value < 0 ? ~(value << 1) : value << 1;
+        while (zigzag >= 0x20) {
+            out.append((char) ((0x20 | (zigzag & 0x1f)) + 63));
+            zigzag >>>= 5;
+        }
+        out.append((char) (zigzag + 63));
+    }
+
+    private static long decodeSigned(String encoded, int[] index) {
+        long result = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = encoded.charAt(index[0]++) - 63;
+            result |= (long) (b & 0x1f) << shift;
+            shift += 5;
+        } while (b >= 0x20);
+        return (result & 1) != 0 ? ~(result >>> 1) : result >>> 1;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Coordinates {
+        private final double[] latitudes;
+        private final double[] longitudes;
+
+        public int size() {
+            return latitudes.length;
+        }
+    }
+}
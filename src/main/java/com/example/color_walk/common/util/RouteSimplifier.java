@@ -0,0 +1,102 @@
+package com.example.color_walk.common.util;
+
+import java.util.Arrays;
+
+/**
+ * Douglas-Peucker 알고리즘 기반 경로 단순화
+ * - 허용 오차(미터) 안에서 경로 모양을 유지하는 최소한의 지점만 남김
+ */
+public class RouteSimplifier {
+
+    private static final double EARTH_RADIUS_METERS = 6371000.0;
+
+    private RouteSimplifier() {
+    }
+
+    /**
+     * 남길 지점의 인덱스를 오름차순으로 반환 (처음과 마지막 지점은 항상 포함)
+     */
+    public static int[] simplify(double[] latitudes, double[] longitudes, double toleranceMeters) {
+        int n = latitudes.length;
+        if (n <= 2 || !(toleranceMeters > 0)) {
+            int[] all = new int[n];
+            Arrays.setAll(all, i -> i);
+            return all;
+        }
+
+        // 첫 지점 기준의 평면 좌표(미터)로 투영 (산책 규모에서는 오차가 무시할 수준)
+        double cosRef = Math.cos(Math.toRadians(latitudes[0]));
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = Math.toRadians(longitudes[i]) * cosRef * EARTH_RADIUS_METERS;
+            y[i] = Math.toRadians(latitudes[i]) * EARTH_RADIUS_METERS;
+        }
+
+        boolean[] keep = new boolean[n];
+        keep[0] = true;
+        keep[n - 1] = true;
+        int kept = 2;
+
+        // 재귀 대신 구간 스택 사용 (긴 경로에서도 스택 오버플로 없음)
+        int[] startStack = new int[n];
+        int[] endStack = new int[n];
+        int top = 0;
+        startStack[top] = 0;
+        endStack[top] = n - 1;
+        top++;
+
+        while (top > 0) {
+            top--;
+            int start = startStack[top];
+            int end = endStack[top];
+
+            double maxDistance = -1;
+            int farthest = -1;
+            for (int i = start + 1; i < end; i++) {
+                double distance = distanceToSegment(x[i], y[i], x[start], y[start], x[end], y[end]);
+                if (distance > maxDistance) {
+                    maxDistance = distance;
+                    farthest = i;
+                }
+            }
+
+            if (farthest != -1 && maxDistance > toleranceMeters) {
+                keep[farthest] = true;
+                kept++;
+                if (farthest - start > 1) {
+                    startStack[top] = start;
+                    endStack[top] = farthest;
+                    top++;
+                }
+                if (end - farthest > 1) {
+                    startStack[top] = farthest;
+                    endStack[top] = end;
+                    top++;
+                }
+            }
+        }
+
+        int[] indices = new int[kept];
+        int cursor = 0;
+        for (int i = 0; i < n; i++) {
+            if (keep[i]) {
+                indices[cursor++] = i;
+            }
+        }
+        return indices;
+    }
+
+    private static double distanceToSegment(double px, double py, double ax, double ay, double bx, double by) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double lengthSquared = dx * dx + dy * dy;
+        if (lengthSquared == 0) {
+            return Math.hypot(px - ax, py - ay);
+        }
+
+        double t = ((px - ax) * dx + (py - ay) * dy) / lengthSquared;
+        t = Math.max(0, Math.min(1, t));
+        return Math.hypot(px - (ax + t * dx), py - (ay + t * dy));
+    }
+}
@@ -1,7 +1,7 @@
 package com.example.color_walk.controller;
 
+import com.example.color_walk.common.config.AsyncConfig;
 import com.example.color_walk.dto.response.ColorAnalysisResponse;
-import com.example.color_walk.dto.response.ColorAnalysisResponseWithPoint;
 import com.example.color_walk.service.ColorAnalysisService;
 import com.example.color_walk.service.WalkService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,12 +13,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @RestController
 @RequestMapping("/colors")
@@ -28,6 +31,8 @@ public class ColorAnalysisController {
 
     private final ColorAnalysisService colorAnalysisService;
     private final WalkService walkService;
+    @Qualifier(AsyncConfig.AI_RESULT_EXECUTOR)
+    private final Executor aiResultExecutor;
 
     /**
      * 여러 이미지 종합 색상 분석
@@ -42,7 +47,7 @@ public class ColorAnalysisController {
         @ApiResponse(responseCode = "500", description = "서버 내부 오류",
                     content = @Content(schema = @Schema(implementation = ColorAnalysisResponse.class)))
     })
-    public ResponseEntity<ColorAnalysisResponse> analyzeImageColors(
+    public CompletableFuture<ResponseEntity<ColorAnalysisResponse>> analyzeImageColors(
             @PathVariable("walkId") Long walkId,
             @Parameter(
                     description = "분석할 이미지 파일들 (JPG, PNG 등) - 여러 개 선택 가능",
@@ -52,27 +57,29 @@ public class ColorAnalysisController {
             )
             @RequestParam("images") List<MultipartFile> imageFiles) {
 
-            ColorAnalysisResponse response;
+            CompletableFuture<ColorAnalysisResponse> analysis;
             
             if (imageFiles.toArray().length == 1) {
                 // 단일 이미지인 경우 기존 메소드 사용
-                response = colorAnalysisService.analyzeImageColors(imageFiles.get(0));
+                analysis = colorAnalysisService.analyzeImageColorsAsync(imageFiles.get(0));
             } else {
                 // 여러 이미지인 경우 종합 분석 메소드 사용
-                response = colorAnalysisService.analyzeMultipleImageColors(imageFiles);
+                analysis = colorAnalysisService.analyzeMultipleImageColorsAsync(imageFiles);
             }
 
-            Integer gainedPoint;
-            if (response.getIndividualImages().isEmpty()){
-                gainedPoint = 0;
-            }else {
-                gainedPoint = walkService.calculatePoints(walkId, response.getIndividualImages());
-            }
-            ColorAnalysisResponseWithPoint responseWithPoint = new ColorAnalysisResponseWithPoint(response, gainedPoint);
-            walkService.addPoints(gainedPoint, walkId);
-            System.out.println("gainedPoint: " + gainedPoint);
+            // Gemini 응답을 기다리는 동안 요청 스레드를 반환하고, 응답이 오면 포인트 적립 후 응답
+            // (포인트 적립은 DB 작업이므로 HttpClient 스레드가 아닌 전용 풀에서 실행)
+            return analysis.thenApplyAsync(response -> {
+                Integer gainedPoint;
+                if (response.getIndividualImages().isEmpty()){
+                    gainedPoint = 0;
+                }else {
+                    gainedPoint = walkService.calculatePoints(walkId, response.getIndividualImages());
+                }
+                walkService.addPoints(gainedPoint, walkId);
 
-            return ResponseEntity.ok(response);
+                return ResponseEntity.ok(response);
+            }, aiResultExecutor);
     }
 
     private boolean isImageFile(MultipartFile file) {
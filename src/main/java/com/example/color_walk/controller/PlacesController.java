@@ -42,6 +42,18 @@ public class PlacesController {
         return ResponseEntity.noContent().build();
     }
 
+    @GetMapping("/nearby")
+    @Operation(summary = "주변 장소 조회", description = "현재 위치에서 가까운 장소 k개를 거리순으로 조회합니다")
+    @ApiResponse(responseCode = "200", description = "주변 장소 조회 성공")
+    public ResponseEntity<List<PlaceResponse>> getNearbyPlaces(
+            @Parameter(description = "현재 위도") @RequestParam("lat") double latitude,
+            @Parameter(description = "현재 경도") @RequestParam("lng") double longitude,
+            @Parameter(description = "조회할 장소 수 (최대 100)") @RequestParam(value = "k", defaultValue = "10") int k,
+            @Parameter(description = "장소 카테고리 (생략 시 전체)") @RequestParam(value = "category", required = false) PlaceCategory category) {
+        List<PlaceResponse> responses = placesService.getNearbyPlaces(latitude, longitude, k, category);
+        return ResponseEntity.ok(responses);
+    }
+
     @GetMapping("/{placeId}")
     @Operation(summary = "장소 상세 조회", description = "지정된 ID의 장소 정보를 조회합니다")
     @ApiResponse(responseCode = "200", description = "장소 조회 성공")
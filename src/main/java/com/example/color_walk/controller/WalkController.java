@@ -1,26 +1,52 @@
 package com.example.color_walk.controller;
 
+import com.example.color_walk.domain.RouteLevel;
 import com.example.color_walk.dto.request.PlaceRecommendationRequest;
 import com.example.color_walk.dto.request.StartWalkRequest;
+import com.example.color_walk.dto.request.WalkingPointBatchRequest;
 import com.example.color_walk.dto.request.WalkingPointRequest;
 import com.example.color_walk.dto.response.ColorMatchingResult;
 import com.example.color_walk.dto.response.PlaceRecommendationResponse;
 import com.example.color_walk.dto.response.WalkResponse;
+import com.example.color_walk.dto.response.WalkSliceResponse;
+import com.example.color_walk.dto.response.WalkingPointResponse;
+import com.example.color_walk.service.WalkResponseCache;
 import com.example.color_walk.service.WalkService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/walks")
 @RequiredArgsConstructor
 public class WalkController {
 
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final int STREAM_FLUSH_INTERVAL = 500;
+
     private final WalkService walkService;
+    private final WalkResponseCache walkResponseCache;
+    private final ObjectMapper objectMapper;
 
     /**
      * 산책 시작
@@ -42,6 +68,17 @@ public class WalkController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * GPS 포인트 일괄 저장
+     */
+    @PostMapping("/{walkId}/points/batch")
+    @Operation(summary = "산책 중 위치를 한 번에 받는 api", description = "단말에 모아둔 위치들을 수집 순서대로 한 번에 저장")
+    public ResponseEntity<Void> saveWalkingPoints(@PathVariable("walkId") Long walkId,
+                                                  @Valid @RequestBody WalkingPointBatchRequest request) {
+        walkService.saveWalkingPoints(walkId, request);
+        return ResponseEntity.ok().build();
+    }
+
     /**
      * 산책 종료
      */
@@ -56,38 +93,146 @@ public class WalkController {
      * 산책 상세 조회
      */
     @GetMapping("/{walkId}")
-    @Operation(summary = "산책 상세 조회")
-    public ResponseEntity<WalkResponse> getWalkDetail(@PathVariable("walkId") Long walkId) {
-        WalkResponse response = walkService.getWalkDetail(walkId);
-        return ResponseEntity.ok(response);
+    @Operation(summary = "산책 상세 조회", description = "lod 또는 tolerance 로 경로 상세도를 지정할 수 있음 (기본값은 전체 경로)")
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = WalkResponse.class)))
+    public ResponseEntity<byte[]> getWalkDetail(
+            @PathVariable("walkId") Long walkId,
+            @Parameter(description = "경로 상세도 (FULL, MEDIUM, PREVIEW)")
+            @RequestParam(value = "lod", defaultValue = "FULL") RouteLevel lod,
+            @Parameter(description = "경로 단순화 허용 오차 (미터, 0보다 큰 값), 지정 시 lod 보다 우선")
+            @RequestParam(value = "tolerance", required = false) Double tolerance) {
+        // 종료된 산책은 lod 별로 직렬화된 응답을 캐시 (임의 tolerance 는 캐시하지 않음)
+        byte[] body = tolerance == null
+                ? walkResponseCache.getOrLoad(walkId, lod, () -> walkService.getWalkDetail(walkId, lod, null))
+                : walkResponseCache.serialize(walkService.getWalkDetail(walkId, lod, tolerance));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    /**
+     * 산책 상세 스트리밍 조회
+     */
+    @GetMapping(value = "/{walkId}", params = "stream=true")
+    @Operation(summary = "산책 상세 스트리밍 조회", description = "경로 포인트를 메모리에 모으지 않고 읽는 즉시 JSON 으로 전송 (장시간 산책용)")
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = WalkResponse.class)))
+    public ResponseEntity<StreamingResponseBody> streamWalkDetail(@PathVariable("walkId") Long walkId) {
+        // 스트림 시작 전에 조회해야 존재하지 않는 산책에 대해 오류 응답을 보낼 수 있음
+        JsonNode overview = objectMapper.valueToTree(walkService.getWalkOverview(walkId));
+
+        StreamingResponseBody body = outputStream -> writeStream(outputStream, (generator, writer) -> {
+            generator.writeStartObject();
+            Iterator<Map.Entry<String, JsonNode>> fields = overview.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (!"walkingPoints".equals(field.getKey())) {
+                    generator.writeFieldName(field.getKey());
+                    writer.writeValue(generator, field.getValue());
+                }
+            }
+
+            generator.writeArrayFieldStart("walkingPoints");
+            writeWalkingPoints(walkId, generator, writer, false);
+            generator.writeEndArray();
+            generator.writeEndObject();
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    /**
+     * 산책 경로 포인트 스트리밍 조회 (NDJSON)
+     */
+    @GetMapping(value = "/{walkId}/points", produces = "application/x-ndjson")
+    @Operation(summary = "산책 경로 스트리밍 조회", description = "경로 포인트를 한 줄에 하나씩 JSON 으로 전송 (application/x-ndjson)")
+    public ResponseEntity<StreamingResponseBody> streamWalkingPoints(@PathVariable("walkId") Long walkId) {
+        walkService.prepareWalkingPointStream(walkId);
+
+        StreamingResponseBody body = outputStream -> writeStream(outputStream,
+                (generator, writer) -> writeWalkingPoints(walkId, generator, writer, true));
+
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .body(body);
     }
 
     /**
      * 모든 산책 목록 조회
      */
     @GetMapping("/all")
-    @Operation(summary = "모든 산책 목록 조회", description = "모든 산책을 최신 업데이트 순으로 조회")
-    public ResponseEntity<List<WalkResponse>> getAllWalks() {
-        List<WalkResponse> responses = walkService.getAllWalks();
-        return ResponseEntity.ok(responses);
+    @Operation(summary = "모든 산책 목록 조회", description = "모든 산책을 최신 업데이트 순으로 조회 (커서 기반 페이지네이션)")
+    public ResponseEntity<WalkSliceResponse> getAllWalks(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)")
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        WalkSliceResponse response = walkService.getAllWalks(cursor, size);
+        return ResponseEntity.ok(response);
     }
 
     /**
      * 회원의 산책 목록 조회
      */
     @GetMapping("/members/{memberId}")
-    @Operation(summary = "산책 목록 조회")
-    public ResponseEntity<List<WalkResponse>> getMemberWalks(@PathVariable("memberId") Long memberId) {
-        List<WalkResponse> responses = walkService.getMemberWalks(memberId);
-        return ResponseEntity.ok(responses);
+    @Operation(summary = "산책 목록 조회", description = "회원의 산책을 시작 시간 역순으로 조회 (커서 기반 페이지네이션)")
+    public ResponseEntity<WalkSliceResponse> getMemberWalks(
+            @PathVariable("memberId") Long memberId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)")
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        WalkSliceResponse response = walkService.getMemberWalks(memberId, cursor, size);
+        return ResponseEntity.ok(response);
     }
 
     @PostMapping("/recommend")
     @Operation(summary = "AI 기반 장소 추천",
             description = "사용자의 취향과 선호도를 바탕으로 AI가 추천하는 산책로 장소 5곳을 제공합니다")
-    public ResponseEntity<PlaceRecommendationResponse> recommendPlaces(
+    public CompletableFuture<ResponseEntity<PlaceRecommendationResponse>> recommendPlaces(
             @Valid @RequestBody PlaceRecommendationRequest request) {
-        PlaceRecommendationResponse response = walkService.recommendPlaces(request);
-        return ResponseEntity.ok(response);
+        return walkService.recommendPlacesAsync(request)
+                .thenApply(ResponseEntity::ok);
+    }
+
+    private void writeWalkingPoints(Long walkId, JsonGenerator generator, ObjectWriter writer,
+                                    boolean lineDelimited) {
+        int[] written = {0};
+        walkService.streamWalkingPoints(walkId, point -> {
+            try {
+                writePoint(point, generator, writer, lineDelimited);
+                // 일정 개수마다 내보내 첫 바이트가 늦어지지 않도록 함
+                if (++written[0] % STREAM_FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void writePoint(WalkingPointResponse point, JsonGenerator generator, ObjectWriter writer,
+                            boolean lineDelimited) throws IOException {
+        writer.writeValue(generator, point);
+        if (lineDelimited) {
+            generator.writeRaw('\n');
+        }
+    }
+
+    private void writeStream(OutputStream outputStream, StreamBodyWriter bodyWriter) throws IOException {
+        // 포인트마다 flush 하지 않도록 하고, NDJSON 줄 구분은 직접 기록
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            generator.setRootValueSeparator(null);
+            bodyWriter.write(generator, writer);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface StreamBodyWriter {
+        void write(JsonGenerator generator, ObjectWriter writer) throws IOException;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,32 @@
+package com.example.color_walk.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 이미지 내용(SHA-256) 기준으로 저장한 색상 분석 결과
+ * - 같은 이미지라도 프롬프트가 바뀌면 결과 형식이 달라지므로 프롬프트 버전까지 키에 포함
+ */
+@Entity
+@Table(
+        name = "image_color_analysis",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_image_color_analysis_hash_version",
+                columnNames = {"image_hash", "prompt_version"}
+        )
+)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImageColorAnalysis extends BaseEntity {
+
+    @Column(name = "image_hash", nullable = false, length = 64)
+    private String imageHash;
+
+    @Column(name = "prompt_version", nullable = false, length = 32)
+    private String promptVersion;
+
+    @Column(name = "dominant_colors_json", nullable = false, columnDefinition = "TEXT")
+    private String dominantColorsJson;
+}
@@ -26,6 +26,9 @@ public class Places extends BaseEntity {
     @Column(precision = 11, scale = 8, nullable = false)
     private BigDecimal longitude;
 
+    // 공간 조회용 location(POINT SRID 4326) 컬럼은 위경도로 계산되는 DB 생성 컬럼이라 매핑하지 않음
+    // (PlaceLocationInitializer 참고)
+
     private String address;
 
     private String imageUrl;
@@ -0,0 +1,16 @@
+package com.example.color_walk.domain;
+
+import lombok.Getter;
+
+@Getter
+public enum RouteLevel {
+    FULL(0.0),      // 원본 경로
+    MEDIUM(5.0),    // 상세 지도용
+    PREVIEW(25.0);  // 목록 미리보기용
+
+    private final double toleranceMeters; // 경로 단순화 허용 오차 (미터)
+
+    RouteLevel(double toleranceMeters) {
+        this.toleranceMeters = toleranceMeters;
+    }
+}
@@ -1,19 +1,25 @@
 package com.example.color_walk.domain;
 
+import com.example.color_walk.common.util.GeoUtils;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "walk")
+@Table(name = "walk", indexes = {
+        @Index(name = "idx_walk_updated_at_id", columnList = "updated_at, id"),
+        @Index(name = "idx_walk_member_start_time_id", columnList = "member_id, start_time, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@DynamicUpdate
 public class Walk extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -32,13 +38,51 @@ public class Walk extends BaseEntity {
 
     private Double totalDistance;
 
+    // 마지막으로 저장된 GPS 좌표 (누적 거리 계산용)
+    private Double lastLatitude;
+
+    private Double lastLongitude;
+
+    // 종료된 산책의 경로 (Google Encoded Polyline)
+    @Column(name = "encoded_route", columnDefinition = "MEDIUMTEXT")
+    private String encodedRoute;
+
+    // 경로 각 지점의 시각 (epoch 초, 델타 인코딩)
+    @Column(name = "encoded_timestamps", columnDefinition = "MEDIUMTEXT")
+    private String encodedTimestamps;
+
+    private Integer pointCount;
+
+    // 단순화된 경로 (상세 지도용 / 목록 미리보기용)
+    @Column(name = "medium_route", columnDefinition = "MEDIUMTEXT")
+    private String mediumRoute;
+
+    @Column(name = "preview_route", columnDefinition = "TEXT")
+    private String previewRoute;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "color_theme")
     private Color colorTheme;
 
     @OneToMany(mappedBy = "walk", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("sequence ASC")
     private List<WalkingPoint> walkingPoints = new ArrayList<>();
 
     @OneToMany(mappedBy = "walk", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Photo> photos = new ArrayList<>();
-}
\ No newline at end of file
+
+    /**
+     * 마지막 좌표와 새 좌표 사이의 구간 거리만 누적하고 마지막 좌표를 갱신
+     */
+    public double accumulateDistance(double latitude, double longitude) {
+        double segment = 0.0;
+        if (lastLatitude != null && lastLongitude != null) {
+            segment = GeoUtils.calculateDistance(lastLatitude, lastLongitude, latitude, longitude);
+        }
+
+        this.totalDistance = (totalDistance != null ? totalDistance : 0.0) + segment;
+        this.lastLatitude = latitude;
+        this.lastLongitude = longitude;
+        return segment;
+    }
+}
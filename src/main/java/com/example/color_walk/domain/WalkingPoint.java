@@ -6,13 +6,37 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "walking_point")
+@Table(
+        name = "walking_point",
+        uniqueConstraints = @UniqueConstraint(
+                name = WalkingPoint.SEQUENCE_CONSTRAINT,
+                columnNames = {"walk_id", "sequence"}
+        )
+)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class WalkingPoint extends BaseEntity {
+public class WalkingPoint extends BaseTimeEntity {
+
+    public static final String SEQUENCE_CONSTRAINT = "uk_walking_point_walk_sequence";
+    public static final String ID_GENERATOR_TABLE = "id_generator";
+    public static final String ID_GENERATOR_KEY = "walking_point";
+    public static final int ID_ALLOCATION_SIZE = 100;
+
+    // IDENTITY 전략은 Hibernate의 JDBC 배치 insert를 막기 때문에 테이블 기반 pooled 채번 사용
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "walking_point_id")
+    @TableGenerator(
+            name = "walking_point_id",
+            table = ID_GENERATOR_TABLE,
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = ID_GENERATOR_KEY,
+            allocationSize = ID_ALLOCATION_SIZE
+    )
+    private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "walk_id", nullable = false)
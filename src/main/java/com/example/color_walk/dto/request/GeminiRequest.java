@@ -1,20 +1,29 @@
 package com.example.color_walk.dto.request;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.util.List;
+import java.util.Map;
 
 @Setter
 @Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class GeminiRequest {
     private List<Content> contents;
+    private GenerationConfig generationConfig;
 
     public GeminiRequest(List<Content> contents) {
         this.contents = contents;
     }
 
+    public GeminiRequest(List<Content> contents, GenerationConfig generationConfig) {
+        this.contents = contents;
+        this.generationConfig = generationConfig;
+    }
+
     @Setter
     @Getter
     public static class Content {
@@ -28,6 +37,7 @@ public class GeminiRequest {
 
     @Setter
     @Getter
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class Part {
         private String text;
         @JsonProperty("inline_data")
@@ -56,4 +66,21 @@ public class GeminiRequest {
         }
 
     }
+
+    /**
+     * 응답 형식 지정 (responseMimeType 이 application/json 이면 responseSchema 에 맞는 JSON 만 응답)
+     */
+    @Setter
+    @Getter
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class GenerationConfig {
+        private String responseMimeType;
+        private Map<String, Object> responseSchema;
+
+        public GenerationConfig(String responseMimeType, Map<String, Object> responseSchema) {
+            this.responseMimeType = responseMimeType;
+            this.responseSchema = responseSchema;
+        }
+
+    }
 }
@@ -0,0 +1,36 @@
+package com.example.color_walk.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class WalkingPointBatchRequest {
+
+    @Valid
+    @NotEmpty(message = "위치 목록은 필수입니다")
+    @Size(max = 1000, message = "한 번에 최대 1000개의 위치까지 저장할 수 있습니다")
+    private List<Point> points; // 수집된 순서대로 정렬된 위치 목록
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Point {
+        @NotNull(message = "위도는 필수입니다")
+        private Double latitude;
+
+        @NotNull(message = "경도는 필수입니다")
+        private Double longitude;
+
+        private LocalDateTime timestamp;
+    }
+}
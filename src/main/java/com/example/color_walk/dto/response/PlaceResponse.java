@@ -22,6 +22,7 @@ public class PlaceResponse {
     private PlaceCategory category;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Double distanceFromUser; // km (주변 장소 조회 시에만 포함)
 
     public static PlaceResponse from(Places place) {
         return PlaceResponse.builder()
@@ -37,4 +38,10 @@ public class PlaceResponse {
                 .updatedAt(place.getUpdatedAt())
                 .build();
     }
-}
\ No newline at end of file
+
+    public static PlaceResponse from(Places place, double distanceMeters) {
+        PlaceResponse response = from(place);
+        response.setDistanceFromUser(distanceMeters / 1000.0);
+        return response;
+    }
+}
@@ -1,11 +1,18 @@
 package com.example.color_walk.dto.response;
 
+import com.example.color_walk.common.util.PolylineCodec;
+import com.example.color_walk.common.util.RouteSimplifier;
+import com.example.color_walk.domain.RouteLevel;
 import com.example.color_walk.domain.Walk;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Getter
 @Builder
@@ -18,6 +25,7 @@ public class WalkResponse {
     private LocalDateTime endTime;
     private Double totalDistance;
     private String colorTheme;
+    private String previewRoute; // 목록 미리보기용 encoded polyline (종료된 산책만)
     private List<WalkingPointResponse> walkingPoints;
     private List<PhotoResponse> photos;
 
@@ -25,17 +33,36 @@ public class WalkResponse {
      * Walk 엔티티를 WalkResponse로 변환
      */
     public static WalkResponse convertToWalkResponse(Walk walk) {
-        List<WalkingPointResponse> walkingPointResponses = walk.getWalkingPoints() != null ? 
-                walk.getWalkingPoints().stream()
-                        .map(point -> WalkingPointResponse.builder()
-                                .pointId(point.getId())
-                                .latitude(point.getLatitude())
-                                .longitude(point.getLongitude())
-                                .timestamp(point.getTimestamp())
-                                .sequence(point.getSequence())
-                                .build())
-                        .toList() : List.of();
+        return convertToWalkResponse(walk, RouteLevel.FULL);
+    }
 
+    /**
+     * Walk 엔티티를 지정한 상세도의 경로로 WalkResponse 변환
+     */
+    public static WalkResponse convertToWalkResponse(Walk walk, RouteLevel routeLevel) {
+        List<WalkingPointResponse> walkingPointResponses = switch (routeLevel) {
+            case FULL -> toFullWalkingPoints(walk);
+            case MEDIUM -> toSimplifiedWalkingPoints(walk, walk.getMediumRoute(), routeLevel.getToleranceMeters());
+            case PREVIEW -> toSimplifiedWalkingPoints(walk, walk.getPreviewRoute(), routeLevel.getToleranceMeters());
+        };
+        return convertToWalkResponse(walk, walkingPointResponses);
+    }
+
+    /**
+     * Walk 엔티티를 허용 오차(미터)만큼 단순화한 경로로 WalkResponse 변환
+     */
+    public static WalkResponse convertToWalkResponse(Walk walk, double toleranceMeters) {
+        return convertToWalkResponse(walk, toSimplifiedWalkingPoints(walk, null, toleranceMeters));
+    }
+
+    /**
+     * 경로 포인트를 제외하고 WalkResponse 변환 (포인트는 스트리밍으로 따로 전송)
+     */
+    public static WalkResponse convertToWalkOverview(Walk walk) {
+        return convertToWalkResponse(walk, (List<WalkingPointResponse>) null);
+    }
+
+    private static WalkResponse convertToWalkResponse(Walk walk, List<WalkingPointResponse> walkingPointResponses) {
         List<PhotoResponse> photoResponses = walk.getPhotos() != null ?
                 walk.getPhotos().stream()
                         .map(PhotoResponse::from)
@@ -50,8 +77,92 @@ public class WalkResponse {
                 .endTime(walk.getEndTime())
                 .totalDistance(walk.getTotalDistance())
                 .colorTheme(walk.getColorTheme().getKoreanName())
+                .previewRoute(walk.getPreviewRoute())
                 .walkingPoints(walkingPointResponses)
                 .photos(photoResponses)
                 .build();
     }
+
+    private static List<WalkingPointResponse> toFullWalkingPoints(Walk walk) {
+        if (walk.getEncodedRoute() != null) {
+            return decodeWalkingPoints(walk);
+        }
+
+        return walk.getWalkingPoints() != null ?
+                walk.getWalkingPoints().stream()
+                        .map(point -> WalkingPointResponse.builder()
+                                .pointId(point.getId())
+                                .latitude(point.getLatitude())
+                                .longitude(point.getLongitude())
+                                .timestamp(point.getTimestamp())
+                                .sequence(point.getSequence())
+                                .build())
+                        .toList() : List.of();
+    }
+
+    /**
+     * 미리 단순화해 둔 경로가 있으면 그대로 사용하고, 없으면 원본 경로를 즉석에서 단순화
+     */
+    private static List<WalkingPointResponse> toSimplifiedWalkingPoints(Walk walk, String encodedSimplifiedRoute,
+                                                                        double toleranceMeters) {
+        if (encodedSimplifiedRoute != null) {
+            PolylineCodec.Coordinates coordinates = PolylineCodec.decodeCoordinates(encodedSimplifiedRoute);
+            List<WalkingPointResponse> walkingPoints = new ArrayList<>(coordinates.size());
+            for (int i = 0; i < coordinates.size(); i++) {
+                walkingPoints.add(WalkingPointResponse.builder()
+                        .latitude(coordinates.getLatitudes()[i])
+                        .longitude(coordinates.getLongitudes()[i])
+                        .sequence(i + 1)
+                        .build());
+            }
+            return walkingPoints;
+        }
+
+        List<WalkingPointResponse> fullWalkingPoints = toFullWalkingPoints(walk).stream()
+                .filter(point -> point.getLatitude() != null && point.getLongitude() != null)
+                .toList();
+
+        double[] latitudes = new double[fullWalkingPoints.size()];
+        double[] longitudes = new double[fullWalkingPoints.size()];
+        for (int i = 0; i < fullWalkingPoints.size(); i++) {
+            latitudes[i] = fullWalkingPoints.get(i).getLatitude();
+            longitudes[i] = fullWalkingPoints.get(i).getLongitude();
+        }
+
+        int[] indices = RouteSimplifier.simplify(latitudes, longitudes, toleranceMeters);
+        List<WalkingPointResponse> walkingPoints = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            walkingPoints.add(fullWalkingPoints.get(index));
+        }
+        return walkingPoints;
+    }
+
+    /**
+     * 압축 저장된 경로를 WalkingPointResponse 목록으로 복원
+     */
+    private static List<WalkingPointResponse> decodeWalkingPoints(Walk walk) {
+        List<WalkingPointResponse> walkingPoints = new ArrayList<>(walk.getPointCount() != null ? walk.getPointCount() : 16);
+        forEachDecodedWalkingPoint(walk, walkingPoints::add);
+        return walkingPoints;
+    }
+
+    /**
+     * 압축 저장된 경로를 목록으로 모으지 않고 포인트 하나씩 전달
+     */
+    public static void forEachDecodedWalkingPoint(Walk walk, Consumer<WalkingPointResponse> consumer) {
+        PolylineCodec.Coordinates coordinates = PolylineCodec.decodeCoordinates(walk.getEncodedRoute());
+        long[] epochSeconds = walk.getEncodedTimestamps() != null
+                ? PolylineCodec.decodeValues(walk.getEncodedTimestamps()) : new long[0];
+
+        for (int i = 0; i < coordinates.size(); i++) {
+            consumer.accept(WalkingPointResponse.builder()
+                    .latitude(coordinates.getLatitudes()[i])
+                    .longitude(coordinates.getLongitudes()[i])
+                    .timestamp(i < epochSeconds.length
+                            ? LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSeconds[i]), ZoneId.systemDefault())
+                            : null)
+                    .sequence(i + 1)
+                    .build());
+        }
+    }
 }
@@ -0,0 +1,38 @@
+package com.example.color_walk.dto.response;
+
+import com.example.color_walk.common.util.PageCursor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@Builder
+public class WalkSliceResponse {
+    private List<WalkSummaryResponse> walks;
+    private String nextCursor; // 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+    private boolean hasNext;
+
+    /**
+     * pageSize + 1 개를 조회한 결과로 다음 페이지 존재 여부와 커서를 계산
+     */
+    public static WalkSliceResponse of(List<WalkSummaryResponse> fetched, int pageSize,
+                                       Function<WalkSummaryResponse, LocalDateTime> cursorTime) {
+        boolean hasNext = fetched.size() > pageSize;
+        List<WalkSummaryResponse> walks = hasNext ? fetched.subList(0, pageSize) : fetched;
+
+        String nextCursor = null;
+        if (hasNext) {
+            WalkSummaryResponse last = walks.get(walks.size() - 1);
+            nextCursor = new PageCursor(cursorTime.apply(last), last.getWalkId()).encode();
+        }
+
+        return WalkSliceResponse.builder()
+                .walks(walks)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.color_walk.dto.response;
+
+import com.example.color_walk.domain.Color;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 산책 목록용 요약 응답
+ * - 경로/사진 컬렉션 없이 개수와 대표 사진만 포함
+ * - WalkRepository 의 JPQL 생성자 프로젝션으로 한 번의 쿼리로 조회
+ */
+@Getter
+public class WalkSummaryResponse {
+    private final Long walkId;
+    private final Long memberId;
+    private final String title;
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+    private final LocalDateTime updatedAt;
+    private final Double totalDistance;
+    private final String colorTheme;
+    private final String previewRoute; // 목록 미리보기용 encoded polyline
+    private final Integer pointCount;
+    private final Long photoCount;
+    private final String coverPhotoUrl;
+
+    public WalkSummaryResponse(Long walkId, Long memberId, String title,
+                               LocalDateTime startTime, LocalDateTime endTime, LocalDateTime updatedAt,
+                               Double totalDistance, Color colorTheme, String previewRoute,
+                               Integer pointCount, Long photoCount, String coverPhotoUrl) {
+        this.walkId = walkId;
+        this.memberId = memberId;
+        this.title = title;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.updatedAt = updatedAt;
+        this.totalDistance = totalDistance;
+        this.colorTheme = colorTheme != null ? colorTheme.getKoreanName() : null;
+        this.previewRoute = previewRoute;
+        this.pointCount = pointCount != null ? pointCount : 0;
+        this.photoCount = photoCount;
+        this.coverPhotoUrl = coverPhotoUrl;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.color_walk.dto.response;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -7,6 +8,7 @@ import java.time.LocalDateTime;
 
 @Getter
 @Builder
+@AllArgsConstructor
 public class WalkingPointResponse {
     private Long pointId;
     private Double latitude;
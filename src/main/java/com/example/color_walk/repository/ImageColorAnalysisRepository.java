@@ -0,0 +1,13 @@
+package com.example.color_walk.repository;
+
+import com.example.color_walk.domain.ImageColorAnalysis;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ImageColorAnalysisRepository extends JpaRepository<ImageColorAnalysis, Long> {
+
+    Optional<ImageColorAnalysis> findByImageHashAndPromptVersion(String imageHash, String promptVersion);
+}
@@ -16,6 +16,34 @@ public interface PlacesRepository extends JpaRepository<Places, Long> {
     
     List<Places> findByNameContainingIgnoreCase(String name);
     
+    String PLACE_COLUMNS = "p.id, p.created_at, p.updated_at, p.name, p.description, p.latitude, p.longitude, " +
+            "p.address, p.image_url, p.category ";
+
+    // location(SRID 4326, 위도/경도 순서)의 SPATIAL INDEX 로 사각 범위를 먼저 거른 뒤 실제 거리로 비교
+    @Query(value = "SELECT " + PLACE_COLUMNS + "FROM places p " +
+            "WHERE MBRContains(ST_GeomFromText(:area, 4326), p.location) " +
+            "AND ST_Distance_Sphere(p.location, ST_SRID(POINT(:lat, :lng), 4326)) <= :radius " +
+            "ORDER BY ST_Distance_Sphere(p.location, ST_SRID(POINT(:lat, :lng), 4326))",
+            nativeQuery = true)
+    List<Places> findWithinRadius(@Param("lat") double latitude,
+                                  @Param("lng") double longitude,
+                                  @Param("area") String areaWkt,
+                                  @Param("radius") double radiusMeters);
+
+    @Query(value = "SELECT " + PLACE_COLUMNS + "FROM places p " +
+            "WHERE MBRContains(ST_GeomFromText(:area, 4326), p.location) " +
+            "AND ST_Distance_Sphere(p.location, ST_SRID(POINT(:lat, :lng), 4326)) <= :radius " +
+            "AND (:category IS NULL OR p.category = :category) " +
+            "ORDER BY ST_Distance_Sphere(p.location, ST_SRID(POINT(:lat, :lng), 4326)) " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Places> findNearestWithinRadius(@Param("lat") double latitude,
+                                         @Param("lng") double longitude,
+                                         @Param("area") String areaWkt,
+                                         @Param("radius") double radiusMeters,
+                                         @Param("category") String category,
+                                         @Param("limit") int limit);
+
     @Query("SELECT p FROM Places p WHERE p.latitude BETWEEN :minLat AND :maxLat AND p.longitude BETWEEN :minLng AND :maxLng")
     List<Places> findPlacesInArea(@Param("minLat") BigDecimal minLatitude,
                                   @Param("maxLat") BigDecimal maxLatitude,
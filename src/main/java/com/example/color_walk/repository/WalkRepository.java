@@ -2,18 +2,38 @@ package com.example.color_walk.repository;
 
 import com.example.color_walk.domain.Member;
 import com.example.color_walk.domain.Walk;
+import com.example.color_walk.dto.response.WalkSummaryResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface WalkRepository extends JpaRepository<Walk, Long> {
+
+    String SUMMARY_SELECT = "SELECT new com.example.color_walk.dto.response.WalkSummaryResponse(" +
+            "w.id, w.member.id, w.title, w.startTime, w.endTime, w.updatedAt, w.totalDistance, w.colorTheme, " +
+            "w.previewRoute, w.pointCount, " +
+            "(SELECT COUNT(p) FROM Photo p WHERE p.walk = w), " +
+            "(SELECT p.s3Url FROM Photo p WHERE p.id = (SELECT MIN(p2.id) FROM Photo p2 WHERE p2.walk = w))) " +
+            "FROM Walk w ";
     
+    // 상세 조회 1단계: 회원과 사진을 함께 로딩 (bag 컬렉션은 하나만 fetch 하여 카테시안 곱 방지)
+    @EntityGraph(attributePaths = {"member", "photos"})
+    @Query("SELECT w FROM Walk w WHERE w.id = :walkId")
+    Optional<Walk> findDetailById(@Param("walkId") Long walkId);
+
+    // 상세 조회 2단계: 이미 로딩된 Walk 의 경로 포인트 컬렉션을 한 번에 채움
+    @Query("SELECT DISTINCT w FROM Walk w LEFT JOIN FETCH w.walkingPoints WHERE w.id = :walkId")
+    Optional<Walk> fetchWalkingPointsById(@Param("walkId") Long walkId);
+
     List<Walk> findByMemberOrderByCreatedAtDesc(Member member);
     
     List<Walk> findByMemberIdOrderByCreatedAtDesc(Long memberId);
@@ -23,11 +43,36 @@ public interface WalkRepository extends JpaRepository<Walk, Long> {
     
     List<Walk> findByTitleContainingIgnoreCase(String title);
 
-    List<Walk> findByMemberIdOrderByStartTimeDesc(Long memberId);
-
+    // 벌크 업데이트는 @UpdateTimestamp 를 거치지 않으므로 updatedAt 을 직접 갱신 (목록 커서 정렬 기준)
     @Modifying
-    @Query("UPDATE Walk w SET w.totalDistance = :totalDistance WHERE w.id = :walkId")
-    void updateTotalDistance(@Param("walkId") Long walkId, @Param("totalDistance") Double totalDistance);
+    @Query("UPDATE Walk w SET w.totalDistance = :totalDistance, w.lastLatitude = :lastLatitude, " +
+            "w.lastLongitude = :lastLongitude, w.pointCount = COALESCE(w.pointCount, 0) + :addedPoints, " +
+            "w.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE w.id = :walkId")
+    void updateTrack(@Param("walkId") Long walkId,
+                     @Param("totalDistance") Double totalDistance,
+                     @Param("lastLatitude") Double lastLatitude,
+                     @Param("lastLongitude") Double lastLongitude,
+                     @Param("addedPoints") int addedPoints);
+
+    // 커서 기반 페이지네이션: (start_time, id) / (updated_at, id) 인덱스를 그대로 타도록 정렬과 조건을 맞춤
+    @Query(SUMMARY_SELECT + "WHERE w.member.id = :memberId ORDER BY w.startTime DESC, w.id DESC")
+    List<WalkSummaryResponse> findSummariesByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE w.member.id = :memberId " +
+            "AND (w.startTime < :startTime OR (w.startTime = :startTime AND w.id < :id)) " +
+            "ORDER BY w.startTime DESC, w.id DESC")
+    List<WalkSummaryResponse> findSummariesByMemberIdBefore(@Param("memberId") Long memberId,
+                                                            @Param("startTime") LocalDateTime startTime,
+                                                            @Param("id") Long id,
+                                                            Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "ORDER BY w.updatedAt DESC, w.id DESC")
+    List<WalkSummaryResponse> findAllSummaries(Pageable pageable);
 
-    List<Walk> findAllByOrderByUpdatedAtDesc();
+    @Query(SUMMARY_SELECT + "WHERE w.updatedAt < :updatedAt OR (w.updatedAt = :updatedAt AND w.id < :id) " +
+            "ORDER BY w.updatedAt DESC, w.id DESC")
+    List<WalkSummaryResponse> findAllSummariesBefore(@Param("updatedAt") LocalDateTime updatedAt,
+                                                     @Param("id") Long id,
+                                                     Pageable pageable);
 }
\ No newline at end of file
@@ -1,15 +1,36 @@
 package com.example.color_walk.repository;
 
 import com.example.color_walk.domain.WalkingPoint;
+import com.example.color_walk.dto.response.WalkingPointResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface WalkingPointRepository extends JpaRepository<WalkingPoint, Long> {
 
     List<WalkingPoint> findByWalkIdOrderBySequence(Long walkId);
 
-    int countByWalkId(Long walkId);
+    // 영속성 컨텍스트에 쌓이지 않는 DTO 로 한 행씩 읽음
+    // (MySQL 드라이버는 fetch size 가 Integer.MIN_VALUE 일 때 결과 전체를 메모리에 올리지 않고 스트리밍)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"))
+    @Query("SELECT new com.example.color_walk.dto.response.WalkingPointResponse(" +
+            "p.id, p.latitude, p.longitude, p.timestamp, p.sequence) " +
+            "FROM WalkingPoint p WHERE p.walk.id = :walkId ORDER BY p.sequence")
+    Stream<WalkingPointResponse> streamByWalkId(@Param("walkId") Long walkId);
+
+    @Query("SELECT COALESCE(MAX(p.sequence), 0) FROM WalkingPoint p WHERE p.walk.id = :walkId")
+    int findMaxSequenceByWalkId(@Param("walkId") Long walkId);
+
+    @Modifying
+    @Query("DELETE FROM WalkingPoint p WHERE p.walk.id = :walkId")
+    int deleteByWalkId(@Param("walkId") Long walkId);
 }
@@ -0,0 +1,358 @@
+package com.example.color_walk.service;
+
+import com.example.color_walk.common.exception.PointStorageUnavailableException;
+import com.example.color_walk.common.util.GpsRingBuffer;
+import com.example.color_walk.domain.Walk;
+import com.example.color_walk.domain.WalkingPoint;
+import com.example.color_walk.dto.request.WalkingPointBatchRequest;
+import com.example.color_walk.repository.WalkRepository;
+import com.example.color_walk.repository.WalkingPointRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 진행 중인 산책의 GPS 포인트를 메모리에 모아두었다가 주기적으로 배치 저장하는 레지스트리
+ * - 포인트 수신 시에는 DB 를 거치지 않고 버퍼에만 추가
+ * - flush-size 개가 모이거나 flush-interval-ms 가 지나면 한 번에 저장
+ * - 일정 시간 포인트가 들어오지 않은 산책은 메모리에서 제거
+ * - 저장에 실패한 포인트는 버퍼에 남겨 다음 저장에서 다시 시도하고, 버퍼가 가득 차면 새 포인트를 503 으로 거절
+ * - (walk_id, sequence) 중복으로 실패하면 이전 저장이 이미 커밋된 것이므로 저장된 앞부분만 버퍼에서 정리
+ * - 단말 시각이 있는 포인트는 이미 받은 시각 이전이면 재전송으로 보고 무시 (거리 중복 누적 방지)
+ * - 누적 거리는 저장에 성공한 포인트까지만 반영 (저장된 경로와 거리가 어긋나지 않도록)
+ */
+@Slf4j
+@Component
+public class ActiveWalkRegistry {
+
+    private final WalkRepository walkRepository;
+    private final WalkingPointRepository walkingPointRepository;
+    private final WalkingPointWriter walkingPointWriter;
+    private final WalkSequenceAllocator walkSequenceAllocator;
+
+    private final int bufferCapacity;
+    private final int flushSize;
+    private final long idleTimeoutMillis;
+
+    private final Map<Long, ActiveWalkSession> sessions = new ConcurrentHashMap<>();
+
+    public ActiveWalkRegistry(WalkRepository walkRepository,
+                              WalkingPointRepository walkingPointRepository,
+                              WalkingPointWriter walkingPointWriter,
+                              WalkSequenceAllocator walkSequenceAllocator,
+                              @Value("${walk.buffer.capacity:1024}") int bufferCapacity,
+                              @Value("${walk.buffer.flush-size:100}") int flushSize,
+                              @Value("${walk.buffer.idle-timeout-ms:600000}") long idleTimeoutMillis) {
+        this.walkRepository = walkRepository;
+        this.walkingPointRepository = walkingPointRepository;
+        this.walkingPointWriter = walkingPointWriter;
+        this.walkSequenceAllocator = walkSequenceAllocator;
+        this.bufferCapacity = bufferCapacity;
+        this.flushSize = Math.min(flushSize, bufferCapacity);
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    /**
+     * GPS 포인트를 버퍼에 추가 (flush-size 에 도달하면 즉시 저장)
+     * - timestamp 가 null 이면 수신 시각을 사용
+     * - 버퍼가 가득 찼는데 저장도 실패하면 PointStorageUnavailableException
+     */
+    public void append(Long walkId, double latitude, double longitude, LocalDateTime timestamp) {
+        ActiveWalkSession session = appendToSession(walkId, latitude, longitude, timestamp, LocalDateTime.now());
+
+        if (session.bufferedSize() >= flushSize) {
+            try {
+                flushSession(session);
+            } catch (Exception e) {
+                // 포인트는 버퍼에 남아 있으므로 다음 주기에 다시 저장을 시도
+                log.warn("GPS 포인트 저장 실패, 다음 주기에 재시도 - Walk ID: {}, 오류: {}", walkId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 여러 GPS 포인트를 순서대로 추가한 뒤 한 번에 저장
+     * - 버퍼에 들어간 포인트는 저장에 실패해도 다음 주기에 다시 저장하므로 요청은 성공으로 처리
+     *   (클라이언트가 같은 배치를 다시 보내 포인트가 중복 추가되는 것을 막음)
+     * - 저장되지 못한 포인트 때문에 배치가 버퍼에 다 들어가지 않으면 하나도 추가하지 않고 거절
+     */
+    public void appendBatch(Long walkId, List<WalkingPointBatchRequest.Point> points, LocalDateTime defaultTimestamp) {
+        // 이전에 쌓인 포인트를 먼저 비워 배치 전체가 버퍼에 들어가도록 함
+        try {
+            flush(walkId);
+        } catch (RuntimeException e) {
+            ActiveWalkSession pending = sessions.get(walkId);
+            if (pending != null && pending.freeCapacity() < points.size()) {
+                throw new PointStorageUnavailableException("GPS 버퍼에 배치를 담을 공간이 없습니다.", e);
+            }
+            log.warn("이전 GPS 포인트 저장 실패, 배치는 버퍼에 추가 - Walk ID: {}, 오류: {}", walkId, e.getMessage());
+        }
+
+        ActiveWalkSession session = null;
+        for (WalkingPointBatchRequest.Point point : points) {
+            session = appendToSession(walkId, point.getLatitude(), point.getLongitude(),
+                    point.getTimestamp(), defaultTimestamp);
+        }
+        if (session == null) {
+            return;
+        }
+
+        try {
+            flushSession(session);
+        } catch (Exception e) {
+            log.warn("GPS 포인트 일괄 저장 실패, 다음 주기에 재시도 - Walk ID: {}, 오류: {}", walkId, e.getMessage());
+        }
+    }
+
+    /**
+     * 버퍼에 남아있는 포인트를 즉시 저장
+     */
+    public void flush(Long walkId) {
+        ActiveWalkSession session = sessions.get(walkId);
+        if (session != null) {
+            flushSession(session);
+        }
+    }
+
+    /**
+     * 산책 종료 시 남은 포인트를 저장하고 메모리에서 제거
+     * - 저장에 실패하면 포인트와 세션을 그대로 두고 PointStorageUnavailableException (종료는 재시도)
+     */
+    public void close(Long walkId) {
+        ActiveWalkSession session = sessions.get(walkId);
+        if (session != null) {
+            // 저장하는 사이에 들어온 포인트까지 모두 저장한 뒤에만 세션을 정리
+            do {
+                try {
+                    flushSession(session);
+                } catch (RuntimeException e) {
+                    throw new PointStorageUnavailableException("산책 종료 전에 GPS 포인트를 저장하지 못했습니다.", e);
+                }
+            } while (!evict(session));
+        }
+        walkSequenceAllocator.release(walkId);
+    }
+
+    /**
+     * 주기적으로 모든 버퍼를 저장하고 유휴 산책을 정리
+     */
+    @Scheduled(fixedDelayString = "${walk.buffer.flush-interval-ms:5000}")
+    public void flushAll() {
+        long now = System.currentTimeMillis();
+
+        for (ActiveWalkSession session : sessions.values()) {
+            try {
+                flushSession(session);
+                if (now - session.lastAccessMillis > idleTimeoutMillis) {
+                    evict(session);
+                }
+            } catch (Exception e) {
+                log.warn("GPS 포인트 주기 저장 실패 - Walk ID: {}, 오류: {}", session.walkId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 버퍼에 남은 포인트 저장
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        for (ActiveWalkSession session : sessions.values()) {
+            try {
+                flushSession(session);
+            } catch (Exception e) {
+                log.error("종료 중 GPS 포인트 저장 실패 - Walk ID: {}, 유실 포인트 수: {}",
+                        session.walkId, session.bufferedSize(), e);
+            }
+        }
+    }
+
+    private ActiveWalkSession appendToSession(Long walkId, double latitude, double longitude,
+                                             LocalDateTime clientTimestamp, LocalDateTime receivedAt) {
+        long epochMillis = toEpochMillis(clientTimestamp != null ? clientTimestamp : receivedAt);
+
+        while (true) {
+            ActiveWalkSession session = sessions.computeIfAbsent(walkId, this::openSession);
+
+            synchronized (session) {
+                if (session.closed) {
+                    continue; // 정리된 세션이면 새로 연다
+                }
+                if (clientTimestamp != null && session.isDuplicate(epochMillis, latitude, longitude)) {
+                    return session;
+                }
+                if (!session.buffer.isFull()) {
+                    int sequence = walkSequenceAllocator.next(walkId);
+                    session.buffer.add(latitude, longitude, epochMillis, sequence);
+                    session.lastAccessMillis = System.currentTimeMillis();
+                    if (clientTimestamp != null) {
+                        session.lastClientEpochMillis = epochMillis;
+                        session.lastClientLatitude = latitude;
+                        session.lastClientLongitude = longitude;
+                    }
+                    return session;
+                }
+            }
+
+            // 버퍼가 가득 찬 경우 먼저 저장한 뒤 다시 추가 (저장도 실패하면 이미 받은 포인트를 버리지 않고 새 포인트를 거절)
+            try {
+                flushSession(session);
+            } catch (RuntimeException e) {
+                throw new PointStorageUnavailableException("GPS 버퍼가 가득 차 포인트를 받을 수 없습니다.", e);
+            }
+        }
+    }
+
+    private ActiveWalkSession openSession(Long walkId) {
+        Walk walk = walkRepository.findById(walkId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 산책입니다."));
+
+        if (walk.getEndTime() != null) {
+            throw new IllegalArgumentException("이미 종료된 산책입니다.");
+        }
+
+        // 저장된 누적 거리와 마지막 좌표만 담은 분리된 사본 (DB 반영은 WalkingPointWriter 가 담당)
+        Walk track = Walk.builder()
+                .totalDistance(walk.getTotalDistance())
+                .lastLatitude(walk.getLastLatitude())
+                .lastLongitude(walk.getLastLongitude())
+                .build();
+        return new ActiveWalkSession(walkId, new GpsRingBuffer(bufferCapacity), track);
+    }
+
+    private void flushSession(ActiveWalkSession session) {
+        session.flushLock.lock();
+        try {
+            GpsRingBuffer.Snapshot snapshot;
+            synchronized (session) {
+                if (session.buffer.isEmpty()) {
+                    return;
+                }
+                snapshot = session.buffer.snapshot();
+            }
+
+            Walk track = advance(session.track, snapshot, snapshot.size());
+            int written;
+            try {
+                walkingPointWriter.write(session.walkId, snapshot,
+                        track.getTotalDistance(), track.getLastLatitude(), track.getLastLongitude());
+                written = snapshot.size();
+            } catch (DataIntegrityViolationException e) {
+                // 이전 저장이 커밋됐는데 실패로 보고된 경우에만 이미 저장된 앞부분을 정리 (그 외에는 버퍼에 남겨 재시도)
+                written = isDuplicateSequence(e) ? countPersisted(session.walkId, snapshot) : 0;
+                if (written == 0) {
+                    throw e;
+                }
+                log.warn("이미 저장된 GPS 포인트를 버퍼에서 정리 - Walk ID: {}, 순번: {}~{}",
+                        session.walkId, snapshot.getSequences()[0], snapshot.getSequences()[written - 1]);
+                // 커밋된 저장에 앞부분까지의 거리도 함께 반영되어 있음
+                track = advance(session.track, snapshot, written);
+            }
+
+            session.track = track;
+            synchronized (session) {
+                session.buffer.discard(written);
+            }
+        } finally {
+            session.flushLock.unlock();
+        }
+    }
+
+    // 저장된 상태에서 스냅샷의 앞 count 개 포인트까지 이동한 누적 거리와 마지막 좌표
+    private Walk advance(Walk track, GpsRingBuffer.Snapshot snapshot, int count) {
+        Walk next = Walk.builder()
+                .totalDistance(track.getTotalDistance() != null ? track.getTotalDistance() : 0.0)
+                .lastLatitude(track.getLastLatitude())
+                .lastLongitude(track.getLastLongitude())
+                .build();
+        for (int i = 0; i < count; i++) {
+            next.accumulateDistance(snapshot.getLatitudes()[i], snapshot.getLongitudes()[i]);
+        }
+        return next;
+    }
+
+    private boolean isDuplicateSequence(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().contains(WalkingPoint.SEQUENCE_CONSTRAINT);
+            }
+        }
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.contains(WalkingPoint.SEQUENCE_CONSTRAINT);
+    }
+
+    // 스냅샷은 순번 순서이므로 DB 의 마지막 순번 이하인 앞부분이 이미 저장된 포인트
+    private int countPersisted(Long walkId, GpsRingBuffer.Snapshot snapshot) {
+        int maxSequence = walkingPointRepository.findMaxSequenceByWalkId(walkId);
+        int count = 0;
+        while (count < snapshot.size() && snapshot.getSequences()[count] <= maxSequence) {
+            count++;
+        }
+        return count;
+    }
+
+    // 저장되지 않은 포인트가 남아 있으면 정리하지 않음
+    private boolean evict(ActiveWalkSession session) {
+        synchronized (session) {
+            if (!session.buffer.isEmpty()) {
+                return false;
+            }
+            session.closed = true;
+            sessions.remove(session.walkId, session);
+        }
+        walkSequenceAllocator.release(session.walkId);
+        return true;
+    }
+
+    private long toEpochMillis(LocalDateTime timestamp) {
+        return timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static class ActiveWalkSession {
+        private final Long walkId;
+        private final GpsRingBuffer buffer;
+        private final ReentrantLock flushLock = new ReentrantLock();
+
+        // flushLock 을 잡은 상태에서만 접근 (저장에 성공한 포인트까지의 누적 거리와 마지막 좌표)
+        private Walk track;
+
+        private volatile long lastAccessMillis = System.currentTimeMillis();
+        private long lastClientEpochMillis = Long.MIN_VALUE;
+        private double lastClientLatitude;
+        private double lastClientLongitude;
+        private boolean closed;
+
+        private ActiveWalkSession(Long walkId, GpsRingBuffer buffer, Walk track) {
+            this.walkId = walkId;
+            this.buffer = buffer;
+            this.track = track;
+        }
+
+        // 마지막으로 받은 단말 시각보다 이전이거나, 같은 시각의 같은 좌표면 재전송된 포인트
+        private boolean isDuplicate(long epochMillis, double latitude, double longitude) {
+            if (epochMillis != lastClientEpochMillis) {
+                return epochMillis < lastClientEpochMillis;
+            }
+            return latitude == lastClientLatitude && longitude == lastClientLongitude;
+        }
+
+        private synchronized int bufferedSize() {
+            return buffer.size();
+        }
+
+        private synchronized int freeCapacity() {
+            return buffer.capacity() - buffer.size();
+        }
+    }
+}
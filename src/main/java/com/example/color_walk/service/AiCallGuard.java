@@ -0,0 +1,125 @@
+package com.example.color_walk.service;
+
+import com.example.color_walk.common.exception.AiResponseException;
+import com.example.color_walk.common.exception.AiUnavailableException;
+import com.example.color_walk.common.util.AsyncBulkhead;
+import com.example.color_walk.common.util.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 외부 AI 호출 보호 계층 (서킷 브레이커 + 벌크헤드)
+ * - 최근 실패율이 높으면 일정 시간 호출을 보내지 않고 즉시 AiUnavailableException 으로 실패
+ * - 동시에 진행 중인 AI 호출 수를 제한하고, 초과분은 제한된 대기열에서 잠시 기다림
+ * - 차단된 호출은 서킷 상태 집계에 포함하지 않음
+ * - 실패 중 AI 쪽 문제(시간 초과, I/O 오류, 5xx, 429)만 실패로 집계하고, 로컬 한도 초과나 잘못된 요청(4xx)은 제외
+ */
+@Slf4j
+@Component
+public class AiCallGuard {
+
+    private final CircuitBreaker circuitBreaker;
+    private final AsyncBulkhead bulkhead;
+    private final Counter circuitOpenRejections;
+    private final Counter bulkheadRejections;
+
+    public AiCallGuard(MeterRegistry meterRegistry,
+                       @Value("${ai.circuit-breaker.window-size:20}") int windowSize,
+                       @Value("${ai.circuit-breaker.minimum-calls:10}") int minimumCalls,
+                       @Value("${ai.circuit-breaker.failure-rate-threshold:50}") double failureRateThreshold,
+                       @Value("${ai.circuit-breaker.open-duration-ms:30000}") long openDurationMillis,
+                       @Value("${ai.circuit-breaker.half-open-calls:3}") int halfOpenCalls,
+                       @Value("${ai.bulkhead.max-concurrent:10}") int maxConcurrent,
+                       @Value("${ai.bulkhead.queue-capacity:20}") int queueCapacity,
+                       @Value("${ai.bulkhead.max-wait-ms:2000}") long maxWaitMillis) {
+        this.circuitBreaker = new CircuitBreaker(windowSize, minimumCalls, failureRateThreshold,
+                openDurationMillis, halfOpenCalls);
+        this.bulkhead = new AsyncBulkhead(maxConcurrent, queueCapacity, maxWaitMillis);
+        this.circuitOpenRejections = meterRegistry.counter("ai.calls.rejected", "reason", "circuit_open");
+        this.bulkheadRejections = meterRegistry.counter("ai.calls.rejected", "reason", "bulkhead");
+
+        // 0: CLOSED, 1: HALF_OPEN, 2: OPEN
+        Gauge.builder("ai.circuit_breaker.state", circuitBreaker, breaker -> switch (breaker.getState()) {
+                    case CLOSED -> 0;
+                    case HALF_OPEN -> 1;
+                    case OPEN -> 2;
+                })
+                .register(meterRegistry);
+        Gauge.builder("ai.bulkhead.in_flight", bulkhead, AsyncBulkhead::getInFlight).register(meterRegistry);
+        Gauge.builder("ai.bulkhead.queued", bulkhead, AsyncBulkhead::getQueued).register(meterRegistry);
+    }
+
+    public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> call) {
+        long permit = circuitBreaker.tryAcquire();
+        if (permit == CircuitBreaker.REJECTED) {
+            circuitOpenRejections.increment();
+            return CompletableFuture.failedFuture(
+                    new AiUnavailableException("AI 서비스 장애로 일시적으로 호출을 중단했습니다."));
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        bulkhead.submit(() -> invoke(call, permit))
+                .whenComplete((value, e) -> {
+                    if (e == null) {
+                        result.complete(value);
+                        return;
+                    }
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof RejectedExecutionException) {
+                        circuitBreaker.release(permit);
+                        bulkheadRejections.increment();
+                        result.completeExceptionally(new AiUnavailableException(
+                                "AI 호출이 몰려 요청을 처리할 수 없습니다: " + cause.getMessage()));
+                    } else {
+                        result.completeExceptionally(cause);
+                    }
+                });
+        return result;
+    }
+
+    private <T> CompletableFuture<T> invoke(Supplier<CompletableFuture<T>> call, long permit) {
+        CompletableFuture<T> running;
+        try {
+            running = call.get();
+        } catch (RuntimeException e) {
+            running = CompletableFuture.failedFuture(e);
+        }
+        return running.whenComplete((value, e) -> {
+            CircuitBreaker.State before = circuitBreaker.getState();
+            if (e == null) {
+                circuitBreaker.onSuccess(permit);
+            } else if (isServiceFailure(e)) {
+                circuitBreaker.onFailure(permit);
+            } else {
+                circuitBreaker.release(permit);
+            }
+            CircuitBreaker.State after = circuitBreaker.getState();
+            if (before != after) {
+                log.warn("AI 서킷 브레이커 상태 변경: {} -> {}", before, after);
+            }
+        });
+    }
+
+    private boolean isServiceFailure(Throwable e) {
+        Throwable cause = e;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof AiResponseException response) {
+            return response.isServiceFailure();
+        }
+        // HttpTimeoutException, ConnectException 등은 IOException
+        return cause instanceof TimeoutException || cause instanceof IOException;
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.color_walk.service;
+
+import com.example.color_walk.common.util.TtlLruCache;
+import com.example.color_walk.domain.ImageColorAnalysis;
+import com.example.color_walk.dto.response.ColorAnalysisResponse;
+import com.example.color_walk.repository.ImageColorAnalysisRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 이미지별 색상 분석 결과 캐시 (메모리 LRU + DB)
+ * - 키는 이미지 바이트의 SHA-256 과 프롬프트 버전
+ * - 메모리에 없으면 DB 에서 읽어 메모리에 올리고, 새 결과는 두 곳에 모두 저장
+ * - DB 저장은 최선 노력으로만 시도 (실패해도 이미 받은 분석 결과 응답에는 영향을 주지 않음)
+ */
+@Slf4j
+@Component
+public class ColorAnalysisCache {
+
+    private static final TypeReference<List<ColorAnalysisResponse.DominantColor>> DOMINANT_COLORS_TYPE =
+            new TypeReference<>() {};
+
+    private final ImageColorAnalysisRepository imageColorAnalysisRepository;
+    private final ObjectMapper objectMapper;
+    private final TtlLruCache<String, List<ColorAnalysisResponse.DominantColor>> cache;
+
+    public ColorAnalysisCache(ImageColorAnalysisRepository imageColorAnalysisRepository,
+                              ObjectMapper objectMapper,
+                              @Value("${color.analysis.cache.max-entries:2000}") int maxEntries,
+                              @Value("${color.analysis.cache.ttl-ms:86400000}") long ttlMillis) {
+        this.imageColorAnalysisRepository = imageColorAnalysisRepository;
+        this.objectMapper = objectMapper;
+        this.cache = new TtlLruCache<>(maxEntries, ttlMillis);
+    }
+
+    public Optional<List<ColorAnalysisResponse.DominantColor>> get(String imageHash, String promptVersion) {
+        String key = key(imageHash, promptVersion);
+        List<ColorAnalysisResponse.DominantColor> cached = cache.get(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<List<ColorAnalysisResponse.DominantColor>> stored = imageColorAnalysisRepository
+                .findByImageHashAndPromptVersion(imageHash, promptVersion)
+                .flatMap(analysis -> deserialize(analysis.getDominantColorsJson()));
+        stored.ifPresent(colors -> cache.put(key, colors));
+        return stored;
+    }
+
+    public void put(String imageHash, String promptVersion, List<ColorAnalysisResponse.DominantColor> dominantColors) {
+        List<ColorAnalysisResponse.DominantColor> colors = dominantColors == null ? List.of()
+                : dominantColors.stream().filter(Objects::nonNull).toList();
+        if (colors.isEmpty()) {
+            return;
+        }
+        cache.put(key(imageHash, promptVersion), colors);
+
+        try {
+            imageColorAnalysisRepository.save(ImageColorAnalysis.builder()
+                    .imageHash(imageHash)
+                    .promptVersion(promptVersion)
+                    .dominantColorsJson(objectMapper.writeValueAsString(colors))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 같은 이미지를 동시에 분석한 다른 요청이 먼저 저장한 경우
+            log.debug("이미 저장된 색상 분석 결과입니다 - hash: {}, version: {}", imageHash, promptVersion);
+        } catch (DataAccessException e) {
+            log.warn("색상 분석 결과 저장 실패 - hash: {}: {}", imageHash, e.getMessage());
+        } catch (JsonProcessingException e) {
+            log.warn("색상 분석 결과 직렬화 실패 - hash: {}: {}", imageHash, e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${color.analysis.cache.cleanup-interval-ms:600000}")
+    public void evictExpired() {
+        cache.evictExpired();
+    }
+
+    private Optional<List<ColorAnalysisResponse.DominantColor>> deserialize(String json) {
+        try {
+            return Optional.of(objectMapper.readValue(json, DOMINANT_COLORS_TYPE).stream()
+                    .filter(Objects::nonNull)
+                    .toList());
+        } catch (JsonProcessingException e) {
+            log.warn("저장된 색상 분석 결과를 읽지 못했습니다: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private String key(String imageHash, String promptVersion) {
+        return promptVersion + ":" + imageHash;
+    }
+}
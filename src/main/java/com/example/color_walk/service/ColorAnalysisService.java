@@ -1,39 +1,129 @@
 package com.example.color_walk.service;
 
+import com.example.color_walk.common.config.AsyncConfig;
+import com.example.color_walk.common.exception.AiUnavailableException;
+import com.example.color_walk.common.util.HashUtils;
 import com.example.color_walk.dto.request.GeminiRequest;
 import com.example.color_walk.dto.response.ColorAnalysisResponse;
 import com.example.color_walk.dto.response.GeminiResponse;
+import lombok.AllArgsConstructor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ColorAnalysisService {
 
+    // 프롬프트를 바꿔 결과 형식이 달라지면 버전을 올려 이전 캐시와 구분
+    private static final String SINGLE_PROMPT_VERSION = "single-v1";
+    private static final String MULTIPLE_PROMPT_VERSION = "multiple-v1";
+    private static final int MERGED_DOMINANT_COLOR_COUNT = 5;
+    private static final int COLORS_PER_IMAGE = 3;
+
+    /**
+     * 색상 분석 방식
+     * - LOCAL: JVM 안에서 색상만 추출 (외부 호출 없음)
+     * - GEMINI: Gemini 로 색상과 설명을 모두 분석
+     * - LOCAL_FIRST: 색상은 로컬 결과를 쓰고, 분위기/설명 등 서술 항목만 Gemini 결과로 채움
+     *   (Gemini 가 실패해도 로컬 결과로 응답)
+     * 로컬에서 디코딩할 수 없는 형식(HEIC 등)이면 모든 방식에서 Gemini 로 분석
+     */
+    public enum Mode { LOCAL, GEMINI, LOCAL_FIRST }
+
+    @Value("${color.analysis.mode:GEMINI}")
+    private Mode mode;
+
     private final GeminiService geminiService;
+    private final ColorAnalysisCache colorAnalysisCache;
+    private final LocalColorExtractor localColorExtractor;
+    private final ImagePreprocessor imagePreprocessor;
+    // 분석 결과 저장(DB)은 HttpClient 스레드가 아닌 전용 풀에서 실행
+    @Qualifier(AsyncConfig.AI_RESULT_EXECUTOR)
+    private final Executor aiResultExecutor;
 
-    public ColorAnalysisResponse analyzeImageColors(MultipartFile imageFile) {
+    /**
+     * 단일 이미지 색상 분석 (Gemini 응답을 기다리는 동안 요청 스레드를 점유하지 않음)
+     * - 업로드 파일은 요청이 끝나면 정리되므로 파일 읽기는 호출 스레드에서 미리 수행
+     */
+    public CompletableFuture<ColorAnalysisResponse> analyzeImageColorsAsync(MultipartFile imageFile) {
+        ImageInput image;
         try {
-            String base64Image = encodeImageToBase64(imageFile);
-            String prompt = createColorAnalysisPrompt();
-            
-            GeminiRequest request = geminiService.buildGeminiRequestWithImage(prompt, base64Image, imageFile.getContentType());
-            GeminiResponse response = geminiService.callGeminiApi(request);
-            
-            return parseColorAnalysisResponse(response);
+            image = readImage(imageFile, 0);
         } catch (IOException e) {
             throw new RuntimeException("이미지 처리 중 오류가 발생했습니다.", e);
         }
+
+        if (mode == Mode.GEMINI) {
+            return analyzeWithGemini(image);
+        }
+        Optional<ColorAnalysisResponse> local = analyzeLocally(List.of(image));
+        if (local.isEmpty()) {
+            return analyzeWithGemini(image);
+        }
+        if (mode == Mode.LOCAL) {
+            return CompletableFuture.completedFuture(local.get());
+        }
+        return analyzeWithGemini(image)
+                .handle((analyzed, e) -> withNarrative(local.get(), e == null ? analyzed : null));
+    }
+
+    /**
+     * 같은 이미지를 분석한 결과가 있으면 Gemini 를 호출하지 않음
+     */
+    private CompletableFuture<ColorAnalysisResponse> analyzeWithGemini(ImageInput image) {
+        Optional<List<ColorAnalysisResponse.DominantColor>> cached =
+                colorAnalysisCache.get(image.hash, SINGLE_PROMPT_VERSION);
+        if (cached.isPresent()) {
+            ColorAnalysisResponse response = new ColorAnalysisResponse();
+            response.setDominantColors(new ArrayList<>(cached.get()));
+            response.setDescription("이전에 분석한 이미지와 같아 저장된 분석 결과를 사용했습니다.");
+            return CompletableFuture.completedFuture(response);
+        }
+
+        // 축소/재인코딩한 이미지만 전달 (캐시 키는 원본 바이트 기준)
+        ImagePreprocessor.PreparedImage prepared = imagePreprocessor.prepare(image.bytes, image.mimeType);
+        GeminiRequest request = geminiService.buildGeminiRequestWithImage(
+                createColorAnalysisPrompt(), encodeImageToBase64(prepared.getBytes()), prepared.getMimeType());
+        return geminiService.callGeminiApiAsync(request)
+                .thenApplyAsync(response -> {
+                    ColorAnalysisResponse result = parseColorAnalysisResponse(response);
+                    if (result.isSuccess()) {
+                        colorAnalysisCache.put(image.hash, SINGLE_PROMPT_VERSION, result.getDominantColors());
+                    }
+                    return result;
+                }, aiResultExecutor)
+                .exceptionally(e -> {
+                    // AI 호출이 차단된 경우에만 오류 응답으로 대체 (그 외 오류는 그대로 전파)
+                    if (unwrap(e) instanceof AiUnavailableException unavailable) {
+                        return ColorAnalysisResponse.createErrorResponse(unavailable.getMessage());
+                    }
+                    throw e instanceof CompletionException completion ? completion : new CompletionException(e);
+                });
+    }
+
+    private ImageInput readImage(MultipartFile imageFile, int index) throws IOException {
+        byte[] bytes = imageFile.getBytes();
+        return new ImageInput(index, imageFile.getOriginalFilename(), imageFile.getContentType(),
+                bytes, HashUtils.sha256Hex(bytes));
     }
 
-    private String encodeImageToBase64(MultipartFile imageFile) throws IOException {
-        byte[] imageBytes = imageFile.getBytes();
+    private String encodeImageToBase64(byte[] imageBytes) {
         return Base64.getEncoder().encodeToString(imageBytes);
     }
 
@@ -57,40 +147,223 @@ public class ColorAnalysisService {
     }
 
     /**
-     * 여러 이미지 파일의 종합적인 색상 분석을 수행
+     * 여러 이미지 종합 색상 분석 (비동기)
+     * - 실패해도 예외 대신 오류 응답으로 완료됨
      */
-    public ColorAnalysisResponse analyzeMultipleImageColors(List<MultipartFile> imageFiles) {
+    public CompletableFuture<ColorAnalysisResponse> analyzeMultipleImageColorsAsync(List<MultipartFile> imageFiles) {
         if (imageFiles == null || imageFiles.isEmpty()) {
-            return ColorAnalysisResponse.createErrorResponse("분석할 이미지가 없습니다.");
+            return CompletableFuture.completedFuture(ColorAnalysisResponse.createErrorResponse("분석할 이미지가 없습니다."));
         }
-        
+
+        List<ImageInput> images = new ArrayList<>(imageFiles.size());
         try {
-            // 여러 이미지를 base64로 인코딩하고 종합 분석 프롬프트 생성
-            List<String> base64Images = new ArrayList<>();
-            List<String> mimeTypes = new ArrayList<>();
-            List<String> imageNames = new ArrayList<>();
-            
-            for (MultipartFile imageFile : imageFiles) {
-                base64Images.add(encodeImageToBase64(imageFile));
-                mimeTypes.add(imageFile.getContentType());
-                imageNames.add(imageFile.getOriginalFilename());
+            for (int i = 0; i < imageFiles.size(); i++) {
+                images.add(readImage(imageFiles.get(i), i));
             }
-            
-            String prompt = createMultipleImagesAnalysisPrompt(imageNames.size());
-            
-            // 모든 이미지를 동시에 Gemini에 전달하여 종합 분석
-            GeminiRequest request = geminiService.buildGeminiRequestWithMultipleImages(prompt, base64Images, mimeTypes);
-            GeminiResponse response = geminiService.callGeminiApi(request);
-            
-            ColorAnalysisResponse result = parseColorAnalysisResponse(response);
-            result.setDescription("총 " + imageFiles.size() + "장의 이미지를 실시간 종합 분석한 결과입니다. " + result.getDescription());
-            
-            return result;
         } catch (IOException e) {
-            return ColorAnalysisResponse.createErrorResponse("이미지 처리 중 오류가 발생했습니다: " + e.getMessage());
-        } catch (Exception e) {
-            return ColorAnalysisResponse.createErrorResponse("여러 이미지 분석 중 오류가 발생했습니다: " + e.getMessage());
+            return CompletableFuture.completedFuture(
+                    ColorAnalysisResponse.createErrorResponse("이미지 처리 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+
+        if (mode == Mode.GEMINI) {
+            return analyzeMultipleWithGemini(images);
         }
+        Optional<ColorAnalysisResponse> local = analyzeLocally(images);
+        if (local.isEmpty()) {
+            return analyzeMultipleWithGemini(images);
+        }
+        if (mode == Mode.LOCAL) {
+            return CompletableFuture.completedFuture(local.get());
+        }
+        return analyzeMultipleWithGemini(images)
+                .thenApply(analyzed -> withNarrative(local.get(), analyzed));
+    }
+
+    /**
+     * 이전에 분석한 이미지는 저장된 결과를 쓰고, 처음 보는 이미지만 Gemini 에 전달
+     * - 같은 요청 안의 동일한 이미지는 한 번만 전달
+     */
+    private CompletableFuture<ColorAnalysisResponse> analyzeMultipleWithGemini(List<ImageInput> images) {
+        ColorAnalysisResponse.IndividualImageAnalysis[] analyses =
+                new ColorAnalysisResponse.IndividualImageAnalysis[images.size()];
+        Map<String, List<ImageInput>> missesByHash = new LinkedHashMap<>();
+        for (ImageInput image : images) {
+            if (missesByHash.containsKey(image.hash)) {
+                missesByHash.get(image.hash).add(image);
+                continue;
+            }
+            Optional<List<ColorAnalysisResponse.DominantColor>> cached =
+                    colorAnalysisCache.get(image.hash, MULTIPLE_PROMPT_VERSION);
+            if (cached.isPresent()) {
+                analyses[image.index] = toIndividualAnalysis(image, cached.get());
+            } else {
+                missesByHash.computeIfAbsent(image.hash, hash -> new ArrayList<>()).add(image);
+            }
+        }
+
+        if (missesByHash.isEmpty()) {
+            return CompletableFuture.completedFuture(mergeAnalyses(images, analyses, null, 0));
+        }
+
+        // 처음 보는 이미지만 축소/재인코딩 후 base64로 인코딩해 Gemini에 전달 (요청 전체 크기 제한 적용)
+        List<List<ImageInput>> misses = new ArrayList<>(missesByHash.values());
+        List<ImagePreprocessor.PreparedImage> preparedImages = imagePreprocessor.prepare(
+                misses.stream().map(sameImages -> sameImages.get(0).bytes).collect(Collectors.toList()),
+                misses.stream().map(sameImages -> sameImages.get(0).mimeType).collect(Collectors.toList()));
+        List<String> base64Images = new ArrayList<>(misses.size());
+        List<String> mimeTypes = new ArrayList<>(misses.size());
+        for (ImagePreprocessor.PreparedImage prepared : preparedImages) {
+            base64Images.add(encodeImageToBase64(prepared.getBytes()));
+            mimeTypes.add(prepared.getMimeType());
+        }
+        String prompt = createMultipleImagesAnalysisPrompt(misses.size());
+        GeminiRequest request = geminiService.buildGeminiRequestWithMultipleImages(prompt, base64Images, mimeTypes);
+
+        return geminiService.callGeminiApiAsync(request)
+                .thenApplyAsync(response -> {
+                    ColorAnalysisResponse result = parseColorAnalysisResponse(response);
+                    if (!result.isSuccess()) {
+                        return result;
+                    }
+                    // Gemini 의 imageIndex 는 전달한 이미지 순서(1부터) 기준
+                    List<ColorAnalysisResponse.IndividualImageAnalysis> analyzedImages =
+                            result.getIndividualImages() != null ? result.getIndividualImages() : List.of();
+                    for (ColorAnalysisResponse.IndividualImageAnalysis analysis : analyzedImages) {
+                        Integer imageIndex = analysis.getImageIndex();
+                        if (imageIndex == null || imageIndex < 1 || imageIndex > misses.size()) {
+                            continue;
+                        }
+                        List<ImageInput> sameImages = misses.get(imageIndex - 1);
+                        colorAnalysisCache.put(sameImages.get(0).hash, MULTIPLE_PROMPT_VERSION, analysis.getDominantColors());
+                        for (ImageInput image : sameImages) {
+                            analyses[image.index] = toIndividualAnalysis(image, analysis.getDominantColors());
+                        }
+                    }
+                    return mergeAnalyses(images, analyses, result, misses.size());
+                }, aiResultExecutor)
+                .exceptionally(e -> ColorAnalysisResponse.createErrorResponse(
+                        "여러 이미지 분석 중 오류가 발생했습니다: " + unwrap(e).getMessage()));
+    }
+
+    private ColorAnalysisResponse.IndividualImageAnalysis toIndividualAnalysis(
+            ImageInput image, List<ColorAnalysisResponse.DominantColor> dominantColors) {
+        return new ColorAnalysisResponse.IndividualImageAnalysis(image.index + 1, image.name,
+                dominantColors == null ? new ArrayList<>() : new ArrayList<>(dominantColors));
+    }
+
+    /**
+     * 이미지별 결과를 원래 순서로 합침
+     * - 저장된 결과가 섞여 있으면 전체 주요 색상은 이미지별 색상 비율을 합산해 다시 계산
+     */
+    private ColorAnalysisResponse mergeAnalyses(List<ImageInput> images,
+                                                ColorAnalysisResponse.IndividualImageAnalysis[] analyses,
+                                                ColorAnalysisResponse analyzed, int analyzedCount) {
+        List<ColorAnalysisResponse.IndividualImageAnalysis> individualImages = new ArrayList<>(images.size());
+        for (ColorAnalysisResponse.IndividualImageAnalysis analysis : analyses) {
+            if (analysis != null) {
+                individualImages.add(analysis);
+            }
+        }
+
+        ColorAnalysisResponse result = analyzed != null ? analyzed : new ColorAnalysisResponse();
+        int reusedCount = images.size() - analyzedCount;
+        if (reusedCount > 0) {
+            result.setDominantColors(mergeDominantColors(individualImages.stream()
+                    .map(ColorAnalysisResponse.IndividualImageAnalysis::getDominantColors)
+                    .collect(Collectors.toList())));
+        }
+        result.setIndividualImages(individualImages);
+
+        if (analyzed == null) {
+            result.setDescription("총 " + images.size() + "장의 이미지 모두 이전에 분석한 결과를 사용했습니다.");
+        } else {
+            result.setDescription("총 " + images.size() + "장의 이미지를 실시간 종합 분석한 결과입니다. "
+                    + (reusedCount > 0 ? "(" + reusedCount + "장은 저장된 분석 결과 사용) " : "")
+                    + analyzed.getDescription());
+        }
+        return result;
+    }
+
+    private List<ColorAnalysisResponse.DominantColor> mergeDominantColors(
+            List<List<ColorAnalysisResponse.DominantColor>> colorsPerImage) {
+        Map<String, ColorAnalysisResponse.DominantColor> merged = new LinkedHashMap<>();
+        double total = 0;
+        for (List<ColorAnalysisResponse.DominantColor> colors : colorsPerImage) {
+            for (ColorAnalysisResponse.DominantColor color : colors) {
+                if (color == null || color.getName() == null) {
+                    continue;
+                }
+                double percentage = color.getPercentage() != null ? color.getPercentage() : 0.0;
+                total += percentage;
+                ColorAnalysisResponse.DominantColor entry = merged.computeIfAbsent(color.getName(),
+                        name -> new ColorAnalysisResponse.DominantColor(name, color.getHex(), 0.0));
+                entry.setPercentage(entry.getPercentage() + percentage);
+            }
+        }
+
+        double sum = total;
+        return merged.values().stream()
+                .sorted(Comparator.comparingDouble(ColorAnalysisResponse.DominantColor::getPercentage).reversed())
+                .limit(MERGED_DOMINANT_COLOR_COUNT)
+                .map(color -> new ColorAnalysisResponse.DominantColor(color.getName(), color.getHex(),
+                        sum > 0 ? Math.round(color.getPercentage() * 1000 / sum) / 10.0 : 0.0))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 모든 이미지를 로컬에서 분석 (하나라도 디코딩할 수 없으면 빈 값)
+     * - 이미지별 상위 3색, 전체는 이미지별 비율을 합산한 상위 5색
+     * - 응답 형태는 Gemini 모드와 같음 (이미지별 분석은 여러 장일 때만 채움)
+     */
+    private Optional<ColorAnalysisResponse> analyzeLocally(List<ImageInput> images) {
+        List<ColorAnalysisResponse.IndividualImageAnalysis> individualImages = new ArrayList<>(images.size());
+        List<List<ColorAnalysisResponse.DominantColor>> colorsPerImage = new ArrayList<>(images.size());
+        int warmCount = 0;
+        for (ImageInput image : images) {
+            Optional<LocalColorExtractor.Extraction> extraction = localColorExtractor.extract(image.bytes);
+            if (extraction.isEmpty()) {
+                return Optional.empty();
+            }
+            List<ColorAnalysisResponse.DominantColor> colors = extraction.get().getDominantColors();
+            colorsPerImage.add(colors);
+            individualImages.add(toIndividualAnalysis(image,
+                    colors.subList(0, Math.min(COLORS_PER_IMAGE, colors.size()))));
+            if ("warm".equals(extraction.get().getMood())) {
+                warmCount++;
+            }
+        }
+
+        ColorAnalysisResponse response = new ColorAnalysisResponse();
+        response.setDominantColors(mergeDominantColors(colorsPerImage));
+        if (images.size() > 1) {
+            response.setIndividualImages(individualImages);
+        }
+        response.setMood(warmCount * 2 >= images.size() ? "warm" : "cool");
+        response.setDescription(images.size() == 1 ? "로컬에서 추출한 색상 분석 결과입니다."
+                : "총 " + images.size() + "장의 이미지를 로컬에서 분석한 결과입니다.");
+        return Optional.of(response);
+    }
+
+    /**
+     * 로컬 색상 결과에 Gemini 의 서술 항목(분위기, 조화도, 테마, 설명)을 채움
+     */
+    private ColorAnalysisResponse withNarrative(ColorAnalysisResponse local, ColorAnalysisResponse analyzed) {
+        if (analyzed == null || !analyzed.isSuccess()) {
+            return local;
+        }
+        if (analyzed.getMood() != null) {
+            local.setMood(analyzed.getMood());
+        }
+        local.setHarmonyScore(analyzed.getHarmonyScore());
+        local.setRecommendedTheme(analyzed.getRecommendedTheme());
+        if (analyzed.getDescription() != null) {
+            local.setDescription(analyzed.getDescription());
+        }
+        return local;
+    }
+
+    private Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
     }
     
     private String createMultipleImagesAnalysisPrompt(int imageCount) {
@@ -152,4 +425,13 @@ public class ColorAnalysisService {
             return ColorAnalysisResponse.createErrorResponse("응답 파싱 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    @AllArgsConstructor
+    private static class ImageInput {
+        private final int index;
+        private final String name;
+        private final String mimeType;
+        private final byte[] bytes;
+        private final String hash;
+    }
+}
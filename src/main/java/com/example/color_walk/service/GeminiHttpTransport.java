@@ -0,0 +1,169 @@
+package com.example.color_walk.service;
+
+import com.example.color_walk.common.exception.AiUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 외부 AI 호출용 HTTP 전송 계층
+ * - 연결은 공유 HttpClient 가 재사용 (keep-alive, HTTP/2 멀티플렉싱)
+ * - 호스트(route)별 동시 요청 수를 제한하고, 한도를 넘으면 기다리지 않고 AiUnavailableException 으로 실패
+ * - 응답 헤더까지의 시간(response-timeout)과 본문 수신까지의 전체 시간(total-timeout)을 모두 제한
+ * - 설정 시 일정 크기 이상의 요청 본문(base64 이미지)을 gzip 으로 압축
+ */
+@Component
+public class GeminiHttpTransport {
+
+    private final HttpClient httpClient;
+    private final MeterRegistry meterRegistry;
+
+    private final int maxConcurrentPerRoute;
+    private final Duration responseTimeout;
+    private final long totalTimeoutMillis;
+    private final boolean gzipRequest;
+    private final int gzipMinBytes;
+
+    private final Map<String, Route> routes = new ConcurrentHashMap<>();
+
+    public GeminiHttpTransport(HttpClient geminiHttpClient,
+                               MeterRegistry meterRegistry,
+                               @Value("${gemini.http.max-concurrent-per-route:20}") int maxConcurrentPerRoute,
+                               @Value("${gemini.http.response-timeout-ms:20000}") long responseTimeoutMillis,
+                               @Value("${gemini.http.total-timeout-ms:25000}") long totalTimeoutMillis,
+                               @Value("${gemini.http.gzip-request:false}") boolean gzipRequest,
+                               @Value("${gemini.http.gzip-min-bytes:8192}") int gzipMinBytes) {
+        this.httpClient = geminiHttpClient;
+        this.meterRegistry = meterRegistry;
+        this.maxConcurrentPerRoute = maxConcurrentPerRoute;
+        this.responseTimeout = Duration.ofMillis(responseTimeoutMillis);
+        this.totalTimeoutMillis = totalTimeoutMillis;
+        this.gzipRequest = gzipRequest;
+        this.gzipMinBytes = gzipMinBytes;
+    }
+
+    /**
+     * JSON 본문 POST
+     * - 전체 시간이 지나면 TimeoutException 으로 완료되고 진행 중인 요청은 취소됨
+     */
+    public CompletableFuture<HttpResponse<byte[]>> postJson(URI uri, byte[] body) {
+        Route route = routes.computeIfAbsent(routeKey(uri), this::registerRoute);
+        if (!route.permits.tryAcquire()) {
+            route.rejected.increment();
+            return CompletableFuture.failedFuture(new AiUnavailableException(
+                    "외부 AI 동시 요청 한도(" + maxConcurrentPerRoute + ")를 초과했습니다."));
+        }
+
+        CompletableFuture<HttpResponse<byte[]>> exchange;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                    .timeout(responseTimeout)
+                    .header("Content-Type", "application/json");
+            if (gzipRequest && body.length >= gzipMinBytes) {
+                body = gzip(body);
+                request.header("Content-Encoding", "gzip");
+            }
+            route.requestBytes.record(body.length);
+
+            exchange = httpClient.sendAsync(request.POST(HttpRequest.BodyPublishers.ofByteArray(body)).build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+        } catch (RuntimeException e) {
+            route.permits.release();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        // 허용 수는 실제 교환이 끝날 때(취소 포함) 반환
+        exchange.whenComplete((response, e) -> {
+            route.permits.release();
+            sample.stop(meterRegistry.timer("gemini.http.requests",
+                    "route", route.key, "outcome", outcome(response, e)));
+        });
+
+        CompletableFuture<HttpResponse<byte[]>> bounded = exchange.copy()
+                .orTimeout(totalTimeoutMillis, TimeUnit.MILLISECONDS);
+        bounded.whenComplete((response, e) -> {
+            if (unwrap(e) instanceof TimeoutException) {
+                exchange.cancel(true);
+            }
+        });
+        return bounded;
+    }
+
+    private Route registerRoute(String key) {
+        Route route = new Route(key, new Semaphore(maxConcurrentPerRoute),
+                meterRegistry.counter("gemini.http.rejected", "route", key),
+                meterRegistry.summary("gemini.http.request.bytes", "route", key));
+        Gauge.builder("gemini.http.in_flight", route.permits, permits -> maxConcurrentPerRoute - permits.availablePermits())
+                .tag("route", key)
+                .register(meterRegistry);
+        Gauge.builder("gemini.http.max_concurrent", () -> maxConcurrentPerRoute)
+                .tag("route", key)
+                .register(meterRegistry);
+        return route;
+    }
+
+    private String routeKey(URI uri) {
+        return uri.getScheme() + "://" + uri.getHost() + (uri.getPort() != -1 ? ":" + uri.getPort() : "");
+    }
+
+    private String outcome(HttpResponse<byte[]> response, Throwable e) {
+        if (response != null) {
+            return (response.statusCode() / 100) + "xx";
+        }
+        Throwable cause = unwrap(e);
+        if (cause instanceof CancellationException) {
+            return "cancelled";
+        }
+        if (cause instanceof HttpTimeoutException) {
+            return "timeout";
+        }
+        return "error";
+    }
+
+    private Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+
+    private byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("요청 본문 압축에 실패했습니다.", e);
+        }
+        return out.toByteArray();
+    }
+
+    @AllArgsConstructor
+    private static class Route {
+        private final String key;
+        private final Semaphore permits;
+        private final Counter rejected;
+        private final DistributionSummary requestBytes;
+    }
+}
@@ -1,18 +1,26 @@
 package com.example.color_walk.service;
 
+import com.example.color_walk.common.exception.AiResponseException;
+import com.example.color_walk.common.util.HashUtils;
 import com.example.color_walk.dto.request.GeminiRequest;
 import com.example.color_walk.dto.response.GeminiResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpResponse;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
@@ -23,7 +31,13 @@ public class GeminiService {
     @Value("${gemini.api.url}")
     private String geminiApiUrl;
 
-    private final RestTemplate restTemplate;
+    private final GeminiHttpTransport geminiHttpTransport;
+    private final AiCallGuard aiCallGuard;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    // 직렬화된 요청 본문의 SHA-256 -> 진행 중인 호출
+    private final Map<String, CompletableFuture<GeminiResponse>> inFlightRequests = new ConcurrentHashMap<>();
 
     public GeminiRequest buildGeminiRequestWithImage(String prompt, String base64Image, String mimeType) {
         GeminiRequest.InlineData inlineData = new GeminiRequest.InlineData(mimeType, base64Image);
@@ -43,6 +57,17 @@ public class GeminiService {
         return new GeminiRequest(List.of(content));
     }
 
+    /**
+     * responseSchema 형식의 JSON 으로만 응답받는 텍스트 요청
+     */
+    public GeminiRequest buildGeminiJsonRequest(String prompt, Map<String, Object> responseSchema) {
+        GeminiRequest.Part textPart = new GeminiRequest.Part(prompt);
+        GeminiRequest.Content content = new GeminiRequest.Content(List.of(textPart));
+
+        return new GeminiRequest(List.of(content),
+                new GeminiRequest.GenerationConfig("application/json", responseSchema));
+    }
+
     public GeminiRequest buildGeminiRequestWithMultipleImages(String prompt, List<String> base64Images, List<String> mimeTypes) {
         List<GeminiRequest.Part> parts = new ArrayList<>();
         
@@ -62,21 +87,60 @@ public class GeminiService {
         return new GeminiRequest(List.of(content));
     }
 
-    public GeminiResponse callGeminiApi(GeminiRequest request) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Content-Type", "application/json");
+    /**
+     * 응답을 기다리는 동안 호출 스레드를 막지 않는 Gemini 호출
+     * - 같은 요청이 이미 진행 중이면 새로 보내지 않고 그 결과를 함께 사용 (재시도, 중복 제출)
+     */
+    public CompletableFuture<GeminiResponse> callGeminiApiAsync(GeminiRequest request) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(request);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Gemini 요청 직렬화에 실패했습니다.", e));
+        }
 
-        HttpEntity<GeminiRequest> entity = new HttpEntity<>(request, headers);
-        String url = geminiApiUrl + "?key=" + geminiApiKey;
+        String requestKey = HashUtils.sha256Hex(body);
+        CompletableFuture<GeminiResponse> call = new CompletableFuture<>();
+        CompletableFuture<GeminiResponse> inFlight = inFlightRequests.putIfAbsent(requestKey, call);
+        if (inFlight != null) {
+            meterRegistry.counter("gemini.requests.coalesced").increment();
+            return inFlight.copy();
+        }
+
+        // 서킷이 열려 있거나 동시 호출 한도를 넘으면 요청을 보내지 않고 AiUnavailableException 으로 실패
+        aiCallGuard.execute(() -> geminiHttpTransport
+                        .postJson(URI.create(geminiApiUrl + "?key=" + geminiApiKey), body)
+                        .thenApply(this::toGeminiResponse))
+                .whenComplete((response, e) -> {
+                    // 완료 후 같은 요청은 새로 호출하도록 결과 전달 전에 제거
+                    inFlightRequests.remove(requestKey, call);
+                    if (e != null) {
+                        call.completeExceptionally(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+                    } else {
+                        call.complete(response);
+                    }
+                });
+        // 호출한 쪽에서 취소하거나 완료시켜도 함께 기다리는 다른 요청에 영향이 없도록 복사본 반환
+        return call.copy();
+    }
 
-        ResponseEntity<GeminiResponse> response = restTemplate.exchange(
-                url, HttpMethod.POST, entity, GeminiResponse.class
-        );
+    private GeminiResponse toGeminiResponse(HttpResponse<byte[]> response) {
+        if (response.statusCode() / 100 != 2) {
+            throw new AiResponseException(response.statusCode(),
+                    "Gemini API 호출 실패 - 상태 코드: " + response.statusCode());
+        }
+
+        GeminiResponse geminiResponse;
+        try {
+            geminiResponse = objectMapper.readValue(response.body(), GeminiResponse.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Gemini API 응답을 읽지 못했습니다.", e);
+        }
 
-        if (response.getBody() == null || response.getBody().getCandidates().isEmpty()) {
+        if (geminiResponse == null || geminiResponse.getCandidates() == null || geminiResponse.getCandidates().isEmpty()) {
             throw new RuntimeException("Gemini API 응답이 비어있습니다.");
         }
 
-        return response.getBody();
+        return geminiResponse;
     }
 }
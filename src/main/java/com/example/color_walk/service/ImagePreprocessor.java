@@ -0,0 +1,235 @@
+package com.example.color_walk.service;
+
+import com.drew.imaging.ImageMetadataReader;
+import com.drew.imaging.ImageProcessingException;
+import com.drew.metadata.Metadata;
+import com.drew.metadata.MetadataException;
+import com.drew.metadata.exif.ExifIFD0Directory;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Gemini 로 보내기 전 이미지 전처리
+ * - 긴 변을 max-long-edge 이하로 줄이고 JPEG 로 다시 인코딩 (EXIF 등 메타데이터는 포함되지 않음)
+ * - 메타데이터가 빠지므로 EXIF 방향(Orientation)은 픽셀에 미리 적용 (세로 사진이 눕혀져 전달되지 않도록)
+ * - 한 요청에 담기는 이미지 전체 크기가 max-request-bytes 를 넘지 않도록 이미지마다 같은 몫을 배정하고,
+ *   몫을 넘으면 품질을 낮추고 그래도 넘으면 크기를 더 줄임
+ * - 디코딩할 수 없는 형식(HEIC 등)은 원본 그대로 전달
+ */
+@Slf4j
+@Component
+public class ImagePreprocessor {
+
+    private static final String JPEG_MIME_TYPE = "image/jpeg";
+    private static final int MIN_LONG_EDGE = 256;
+    private static final float MIN_JPEG_QUALITY = 0.4f;
+
+    private final boolean enabled;
+    private final int maxLongEdge;
+    private final float jpegQuality;
+    private final long maxRequestBytes;
+
+    public ImagePreprocessor(@Value("${gemini.image.preprocess-enabled:true}") boolean enabled,
+                             @Value("${gemini.image.max-long-edge:1024}") int maxLongEdge,
+                             @Value("${gemini.image.jpeg-quality:0.8}") float jpegQuality,
+                             @Value("${gemini.image.max-request-bytes:3145728}") long maxRequestBytes) {
+        this.enabled = enabled;
+        this.maxLongEdge = Math.max(MIN_LONG_EDGE, maxLongEdge);
+        this.jpegQuality = Math.min(1.0f, Math.max(MIN_JPEG_QUALITY, jpegQuality));
+        this.maxRequestBytes = maxRequestBytes;
+    }
+
+    /**
+     * 한 요청에 함께 보낼 이미지들을 전처리 (입력 순서 유지)
+     */
+    public List<PreparedImage> prepare(List<byte[]> images, List<String> mimeTypes) {
+        List<PreparedImage> prepared = new ArrayList<>(images.size());
+        long budgetPerImage = images.isEmpty() ? maxRequestBytes : maxRequestBytes / images.size();
+        for (int i = 0; i < images.size(); i++) {
+            prepared.add(prepare(images.get(i), mimeTypes.get(i), budgetPerImage));
+        }
+        return prepared;
+    }
+
+    public PreparedImage prepare(byte[] image, String mimeType) {
+        return prepare(image, mimeType, maxRequestBytes);
+    }
+
+    private PreparedImage prepare(byte[] image, String mimeType, long budgetBytes) {
+        if (!enabled) {
+            return new PreparedImage(image, mimeType);
+        }
+
+        BufferedImage decoded;
+        try {
+            decoded = decode(image, maxLongEdge);
+        } catch (IOException | RuntimeException e) {
+            log.debug("이미지 전처리용 디코딩 실패, 원본으로 전송합니다: {}", e.getMessage());
+            decoded = null;
+        }
+        if (decoded == null) {
+            return new PreparedImage(image, mimeType);
+        }
+
+        try {
+            decoded = applyOrientation(decoded, readOrientation(image));
+            int longEdge = Math.min(maxLongEdge, Math.max(decoded.getWidth(), decoded.getHeight()));
+            float quality = jpegQuality;
+            byte[] encoded = encodeJpeg(resize(decoded, longEdge), quality);
+
+            // 배정된 크기를 넘으면 품질을 먼저 낮추고, 최저 품질에서도 넘으면 크기를 줄임
+            while (encoded.length > budgetBytes && (quality > MIN_JPEG_QUALITY || longEdge > MIN_LONG_EDGE)) {
+                if (quality > MIN_JPEG_QUALITY) {
+                    quality = Math.max(MIN_JPEG_QUALITY, quality - 0.15f);
+                } else {
+                    longEdge = Math.max(MIN_LONG_EDGE, longEdge * 3 / 4);
+                }
+                encoded = encodeJpeg(resize(decoded, longEdge), quality);
+            }
+
+            return new PreparedImage(encoded, JPEG_MIME_TYPE);
+        } catch (IOException | RuntimeException e) {
+            log.warn("이미지 전처리 실패, 원본으로 전송합니다: {}", e.getMessage());
+            return new PreparedImage(image, mimeType);
+        }
+    }
+
+    /**
+     * 목표 크기의 2배 이상인 만큼은 디코딩 단계에서 건너뛰며 읽어 원본 해상도 디코딩을 피함
+     */
+    private BufferedImage decode(byte[] image, int targetLongEdge) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(image))) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longEdge = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int step = Math.max(1, longEdge / (targetLongEdge * 2));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private int readOrientation(byte[] image) {
+        try {
+            Metadata metadata = ImageMetadataReader.readMetadata(new ByteArrayInputStream(image));
+            ExifIFD0Directory directory = metadata.getFirstDirectoryOfType(ExifIFD0Directory.class);
+            if (directory != null && directory.containsTag(ExifIFD0Directory.TAG_ORIENTATION)) {
+                return directory.getInt(ExifIFD0Directory.TAG_ORIENTATION);
+            }
+        } catch (ImageProcessingException | IOException | MetadataException e) {
+            log.debug("EXIF 방향 정보를 읽지 못해 원본 방향으로 전송합니다: {}", e.getMessage());
+        }
+        return 1;
+    }
+
+    /**
+     * EXIF 방향 값(1~8)에 따라 뒤집기/회전을 적용 (5~8 은 가로세로가 바뀜)
+     */
+    private BufferedImage applyOrientation(BufferedImage source, int orientation) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+
+        AffineTransform transform;
+        switch (orientation) {
+            case 2 -> transform = new AffineTransform(-1, 0, 0, 1, width, 0);       // 좌우 반전
+            case 3 -> transform = new AffineTransform(-1, 0, 0, -1, width, height); // 180도 회전
+            case 4 -> transform = new AffineTransform(1, 0, 0, -1, 0, height);      // 상하 반전
+            case 5 -> transform = new AffineTransform(0, 1, 1, 0, 0, 0);            // 대각선 기준 반전
+            case 6 -> transform = new AffineTransform(0, 1, -1, 0, height, 0);      // 시계 방향 90도
+            case 7 -> transform = new AffineTransform(0, -1, -1, 0, height, width); // 반대 대각선 기준 반전
+            case 8 -> transform = new AffineTransform(0, -1, 1, 0, 0, width);       // 반시계 방향 90도
+            default -> {
+                return source;
+            }
+        }
+
+        boolean swapsAxes = orientation >= 5;
+        BufferedImage target = new BufferedImage(swapsAxes ? height : width, swapsAxes ? width : height,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.drawImage(source, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    // 투명 영역은 흰색으로 채우고 RGB 로 변환 (JPEG 는 알파 채널을 지원하지 않음)
+    private BufferedImage resize(BufferedImage source, int longEdge) {
+        int sourceLongEdge = Math.max(source.getWidth(), source.getHeight());
+        double scale = Math.min(1.0, (double) longEdge / sourceLongEdge);
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (MemoryCacheImageOutputStream output = new MemoryCacheImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class PreparedImage {
+        private final byte[] bytes;
+        private final String mimeType;
+    }
+}
@@ -0,0 +1,348 @@
+package com.example.color_walk.service;
+
+import com.example.color_walk.domain.Color;
+import com.example.color_walk.dto.response.ColorAnalysisResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * 외부 호출 없이 JVM 안에서 이미지의 주요 색상을 추출
+ * - 디코딩 단계에서 긴 변이 sample-edge 정도가 되도록 건너뛰며 읽음 (원본 해상도로 디코딩하지 않음)
+ * - 픽셀을 Lab 색공간으로 바꿔 k-means 로 묶고, 각 묶음을 가장 가까운 Color 대표색에 배정
+ * - 같은 Color 로 배정된 묶음의 비율을 합산해 Color 의 한글 이름으로 반환
+ */
+@Slf4j
+@Component
+public class LocalColorExtractor {
+
+    private static final double[] SRGB_TO_LINEAR = new double[256];
+    private static final double MIN_CHROMA_FOR_MOOD = 12.0;
+
+    // Color 별 대표색 (밝기/채도가 다른 변형을 함께 두어 회색, 하늘색, 베이지 등이 자연스럽게 배정되도록 함)
+    private static final Map<Color, int[]> PROTOTYPES = new EnumMap<>(Color.class);
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            double c = i / 255.0;
+            SRGB_TO_LINEAR[i] = c <= 0.04045 ? c / 12.92 : Math.pow((c + 0.055) / 1.055, 2.4);
+        }
+        PROTOTYPES.put(Color.RED, new int[]{0xE53935, 0xB71C1C, 0xFF5252});
+        PROTOTYPES.put(Color.BLUE, new int[]{0x1E88E5, 0x0D47A1, 0x87CEEB, 0x4FC3F7});
+        PROTOTYPES.put(Color.YELLOW, new int[]{0xFDD835, 0xFFF176, 0xFFEB3B});
+        PROTOTYPES.put(Color.GREEN, new int[]{0x43A047, 0x1B5E20, 0x9CCC65, 0x556B2F});
+        PROTOTYPES.put(Color.PURPLE, new int[]{0x8E24AA, 0x4A148C, 0xB39DDB});
+        PROTOTYPES.put(Color.ORANGE, new int[]{0xFB8C00, 0xFFB74D, 0xF4511E});
+        PROTOTYPES.put(Color.PINK, new int[]{0xF48FB1, 0xEC407A, 0xF8BBD0});
+        PROTOTYPES.put(Color.BLACK, new int[]{0x000000, 0x2B2B2B, 0x4A4A4A});
+        PROTOTYPES.put(Color.WHITE, new int[]{0xFFFFFF, 0xE0E0E0, 0xB0B0B0});
+        PROTOTYPES.put(Color.BROWN, new int[]{0x795548, 0x8B4513, 0x4E342E, 0xC4A484});
+    }
+
+    private static final List<Prototype> PROTOTYPE_LABS = toPrototypeLabs();
+
+    private final int sampleEdge;
+    private final int clusterCount;
+    private final int maxIterations;
+
+    public LocalColorExtractor(@Value("${color.analysis.local.sample-edge:128}") int sampleEdge,
+                               @Value("${color.analysis.local.clusters:8}") int clusterCount,
+                               @Value("${color.analysis.local.iterations:12}") int maxIterations) {
+        this.sampleEdge = Math.max(16, sampleEdge);
+        this.clusterCount = Math.max(2, clusterCount);
+        this.maxIterations = Math.max(1, maxIterations);
+    }
+
+    /**
+     * 이미지의 주요 색상을 비율 내림차순으로 추출 (디코딩할 수 없는 형식이면 빈 값)
+     */
+    public Optional<Extraction> extract(byte[] imageBytes) {
+        BufferedImage image;
+        try {
+            image = decodeSubsampled(imageBytes);
+        } catch (IOException | RuntimeException e) {
+            log.debug("로컬 색상 분석용 이미지 디코딩 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+        if (image == null) {
+            return Optional.empty();
+        }
+
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] argb = image.getRGB(0, 0, width, height, null, 0, width);
+
+        double[][] labs = new double[argb.length][];
+        int[] rgbs = new int[argb.length];
+        int count = 0;
+        for (int pixel : argb) {
+            if ((pixel >>> 24) < 128) {
+                continue; // 투명한 픽셀 제외
+            }
+            rgbs[count] = pixel & 0xFFFFFF;
+            labs[count] = toLab(pixel & 0xFFFFFF);
+            count++;
+        }
+        if (count == 0) {
+            return Optional.empty();
+        }
+
+        Cluster[] clusters = cluster(labs, rgbs, count);
+        return Optional.of(toExtraction(clusters, count));
+    }
+
+    private BufferedImage decodeSubsampled(byte[] imageBytes) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(imageBytes))) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longEdge = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int step = Math.max(1, longEdge / sampleEdge);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * k-means++ 로 초기 중심을 고르고 중심이 움직이지 않거나 최대 반복 횟수까지 갱신
+     * - 같은 이미지는 항상 같은 결과가 나오도록 고정된 시드 사용
+     */
+    private Cluster[] cluster(double[][] labs, int[] rgbs, int count) {
+        int k = Math.min(clusterCount, count);
+        Random random = new Random(count);
+        double[][] centers = new double[k][];
+        centers[0] = labs[random.nextInt(count)].clone();
+
+        double[] nearest = new double[count];
+        for (int i = 0; i < count; i++) {
+            nearest[i] = squaredDistance(labs[i], centers[0]);
+        }
+        for (int c = 1; c < k; c++) {
+            double total = 0;
+            for (int i = 0; i < count; i++) {
+                total += nearest[i];
+            }
+            int chosen = random.nextInt(count);
+            if (total > 0) {
+                double target = random.nextDouble() * total;
+                for (int i = 0; i < count; i++) {
+                    target -= nearest[i];
+                    if (target <= 0) {
+                        chosen = i;
+                        break;
+                    }
+                }
+            }
+            centers[c] = labs[chosen].clone();
+            for (int i = 0; i < count; i++) {
+                nearest[i] = Math.min(nearest[i], squaredDistance(labs[i], centers[c]));
+            }
+        }
+
+        int[] assignment = new int[count];
+        for (int iteration = 0; iteration < maxIterations; iteration++) {
+            boolean changed = iteration == 0;
+            for (int i = 0; i < count; i++) {
+                int best = nearestCenter(labs[i], centers);
+                if (best != assignment[i]) {
+                    assignment[i] = best;
+                    changed = true;
+                }
+            }
+            if (!changed) {
+                break;
+            }
+
+            double[][] sums = new double[k][3];
+            int[] sizes = new int[k];
+            for (int i = 0; i < count; i++) {
+                int c = assignment[i];
+                sums[c][0] += labs[i][0];
+                sums[c][1] += labs[i][1];
+                sums[c][2] += labs[i][2];
+                sizes[c]++;
+            }
+            for (int c = 0; c < k; c++) {
+                if (sizes[c] > 0) {
+                    centers[c] = new double[]{sums[c][0] / sizes[c], sums[c][1] / sizes[c], sums[c][2] / sizes[c]};
+                }
+            }
+        }
+
+        // 최종 배정 기준으로 묶음 크기와 평균 RGB 계산
+        Cluster[] clusters = new Cluster[k];
+        long[][] rgbSums = new long[k][3];
+        int[] sizes = new int[k];
+        for (int i = 0; i < count; i++) {
+            int c = assignment[i];
+            rgbSums[c][0] += (rgbs[i] >> 16) & 0xFF;
+            rgbSums[c][1] += (rgbs[i] >> 8) & 0xFF;
+            rgbSums[c][2] += rgbs[i] & 0xFF;
+            sizes[c]++;
+        }
+        for (int c = 0; c < k; c++) {
+            int rgb = sizes[c] == 0 ? 0 : (int) (rgbSums[c][0] / sizes[c]) << 16
+                    | (int) (rgbSums[c][1] / sizes[c]) << 8
+                    | (int) (rgbSums[c][2] / sizes[c]);
+            clusters[c] = new Cluster(centers[c], sizes[c], rgb);
+        }
+        return clusters;
+    }
+
+    private Extraction toExtraction(Cluster[] clusters, int total) {
+        Map<Color, Integer> sizes = new EnumMap<>(Color.class);
+        Map<Color, Cluster> largest = new EnumMap<>(Color.class);
+        double warm = 0;
+        double cool = 0;
+
+        for (Cluster cluster : clusters) {
+            if (cluster.size == 0) {
+                continue;
+            }
+            Color color = nearestColor(cluster.lab);
+            sizes.merge(color, cluster.size, Integer::sum);
+            Cluster current = largest.get(color);
+            if (current == null || cluster.size > current.size) {
+                largest.put(color, cluster);
+            }
+
+            // 채도가 있는 묶음만 색조(hue)로 따뜻함/차가움 판단
+            double chroma = Math.hypot(cluster.lab[1], cluster.lab[2]);
+            if (chroma >= MIN_CHROMA_FOR_MOOD) {
+                double hue = Math.toDegrees(Math.atan2(cluster.lab[2], cluster.lab[1]));
+                double weight = cluster.size * chroma;
+                if (hue >= -30 && hue <= 110) {
+                    warm += weight;
+                } else {
+                    cool += weight;
+                }
+            }
+        }
+
+        List<ColorAnalysisResponse.DominantColor> dominantColors = new ArrayList<>(sizes.size());
+        for (Map.Entry<Color, Integer> entry : sizes.entrySet()) {
+            double percentage = Math.round(entry.getValue() * 1000.0 / total) / 10.0;
+            if (percentage > 0) {
+                dominantColors.add(new ColorAnalysisResponse.DominantColor(entry.getKey().getKoreanName(),
+                        String.format("#%06X", largest.get(entry.getKey()).rgb), percentage));
+            }
+        }
+        dominantColors.sort(Comparator.comparingDouble(ColorAnalysisResponse.DominantColor::getPercentage).reversed());
+
+        return new Extraction(dominantColors, warm >= cool && warm > 0 ? "warm" : "cool");
+    }
+
+    private static Color nearestColor(double[] lab) {
+        Color best = null;
+        double bestDistance = Double.MAX_VALUE;
+        for (Prototype prototype : PROTOTYPE_LABS) {
+            double distance = squaredDistance(lab, prototype.lab);
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = prototype.color;
+            }
+        }
+        return best;
+    }
+
+    private static int nearestCenter(double[] lab, double[][] centers) {
+        int best = 0;
+        double bestDistance = Double.MAX_VALUE;
+        for (int c = 0; c < centers.length; c++) {
+            double distance = squaredDistance(lab, centers[c]);
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = c;
+            }
+        }
+        return best;
+    }
+
+    private static double squaredDistance(double[] a, double[] b) {
+        double dl = a[0] - b[0];
+        double da = a[1] - b[1];
+        double db = a[2] - b[2];
+        return dl * dl + da * da + db * db;
+    }
+
+    // sRGB -> XYZ (D65) -> CIE Lab
+    private static double[] toLab(int rgb) {
+        double r = SRGB_TO_LINEAR[(rgb >> 16) & 0xFF];
+        double g = SRGB_TO_LINEAR[(rgb >> 8) & 0xFF];
+        double b = SRGB_TO_LINEAR[rgb & 0xFF];
+
+        double x = (0.4124564 * r + 0.3575761 * g + 0.1804375 * b) / 0.95047;
+        double y = 0.2126729 * r + 0.7151522 * g + 0.0721750 * b;
+        double z = (0.0193339 * r + 0.1191920 * g + 0.9503041 * b) / 1.08883;
+
+        double fx = labF(x);
+        double fy = labF(y);
+        double fz = labF(z);
+        return new double[]{116 * fy - 16, 500 * (fx - fy), 200 * (fy - fz)};
+    }
+
+    private static double labF(double t) {
+        return t > 216.0 / 24389.0 ? Math.cbrt(t) : (24389.0 / 27.0 * t + 16) / 116;
+    }
+
+    private static List<Prototype> toPrototypeLabs() {
+        List<Prototype> prototypes = new ArrayList<>();
+        PROTOTYPES.forEach((color, rgbs) -> {
+            for (int rgb : rgbs) {
+                prototypes.add(new Prototype(color, toLab(rgb)));
+            }
+        });
+        return prototypes;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Extraction {
+        // 비율 내림차순, 이름은 Color 의 한글 이름
+        private final List<ColorAnalysisResponse.DominantColor> dominantColors;
+        private final String mood;
+    }
+
+    @AllArgsConstructor
+    private static class Cluster {
+        private final double[] lab;
+        private final int size;
+        private final int rgb;
+    }
+
+    @AllArgsConstructor
+    private static class Prototype {
+        private final Color color;
+        private final double[] lab;
+    }
+}
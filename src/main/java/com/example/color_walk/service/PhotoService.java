@@ -25,6 +25,7 @@ public class PhotoService {
     private final PhotoRepository photoRepository;
     private final WalkRepository walkRepository;
     private final S3Service s3Service;
+    private final WalkResponseCache walkResponseCache;
 
     public List<PhotoResponse> uploadPhotos(Long walkId, List<MultipartFile> files, List<String> descriptions) {
         Walk walk = walkRepository.findById(walkId)
@@ -65,6 +66,9 @@ public class PhotoService {
             }
         }
 
+        // 사진 목록이 바뀌었으므로 캐시된 산책 상세 응답 제거
+        walkResponseCache.evictAfterCommit(walkId);
+
         return savedPhotos.stream()
                 .map(PhotoResponse::from)
                 .collect(Collectors.toList());
@@ -96,6 +100,7 @@ public class PhotoService {
         }
 
         photoRepository.delete(photo);
+        walkResponseCache.evictAfterCommit(photo.getWalk().getId());
         log.info("사진 삭제 완료 - Photo ID: {}", photoId);
     }
 
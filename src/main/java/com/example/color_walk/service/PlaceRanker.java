@@ -0,0 +1,102 @@
+package com.example.color_walk.service;
+
+import com.example.color_walk.common.util.GeoUtils;
+import com.example.color_walk.domain.Color;
+import com.example.color_walk.domain.Places;
+import com.example.color_walk.domain.Places.PlaceCategory;
+import com.example.color_walk.dto.request.PlaceRecommendationRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 장소 추천용 로컬 점수 계산기
+ * - 거리, 선호 카테고리 일치, 색상 테마와 카테고리의 어울림을 가중합해 0~1 점수로 계산
+ * - Gemini 응답을 기다리지 않고 바로 순위를 만들 수 있어 폴백과 후보 선별에 사용
+ */
+@Component
+public class PlaceRanker {
+
+    private static final double DISTANCE_WEIGHT = 0.5;
+    private static final double CATEGORY_WEIGHT = 0.3;
+    private static final double THEME_WEIGHT = 0.2;
+
+    // 최대 이동 거리가 없을 때 거리 점수가 0이 되는 기준 거리
+    private static final double DEFAULT_DISTANCE_SCALE_METERS = 5_000.0;
+
+    private static final Map<Color, Set<PlaceCategory>> THEME_AFFINITY = new EnumMap<>(Color.class);
+
+    static {
+        THEME_AFFINITY.put(Color.GREEN, EnumSet.of(PlaceCategory.PARK, PlaceCategory.NATURE));
+        THEME_AFFINITY.put(Color.BLUE, EnumSet.of(PlaceCategory.NATURE, PlaceCategory.PARK, PlaceCategory.LANDMARK));
+        THEME_AFFINITY.put(Color.YELLOW, EnumSet.of(PlaceCategory.PARK, PlaceCategory.CAFE, PlaceCategory.NATURE));
+        THEME_AFFINITY.put(Color.RED, EnumSet.of(PlaceCategory.LANDMARK, PlaceCategory.CULTURAL, PlaceCategory.RESTAURANT));
+        THEME_AFFINITY.put(Color.ORANGE, EnumSet.of(PlaceCategory.RESTAURANT, PlaceCategory.CAFE, PlaceCategory.SHOPPING));
+        THEME_AFFINITY.put(Color.PINK, EnumSet.of(PlaceCategory.CAFE, PlaceCategory.SHOPPING, PlaceCategory.PARK));
+        THEME_AFFINITY.put(Color.PURPLE, EnumSet.of(PlaceCategory.CULTURAL, PlaceCategory.MUSEUM));
+        THEME_AFFINITY.put(Color.BLACK, EnumSet.of(PlaceCategory.MUSEUM, PlaceCategory.LANDMARK));
+        THEME_AFFINITY.put(Color.WHITE, EnumSet.of(PlaceCategory.MUSEUM, PlaceCategory.CULTURAL, PlaceCategory.LANDMARK));
+        THEME_AFFINITY.put(Color.BROWN, EnumSet.of(PlaceCategory.CAFE, PlaceCategory.CULTURAL, PlaceCategory.NATURE));
+    }
+
+    /**
+     * 점수가 높은 순으로 정렬한 새 목록 반환 (동점이면 기존 순서 유지)
+     */
+    public List<Places> rank(List<Places> places, PlaceRecommendationRequest request) {
+        Color theme = resolveColor(request.getPreferredColorTheme());
+        Map<Places, Double> scores = new IdentityHashMap<>(places.size());
+        for (Places place : places) {
+            scores.put(place, score(place, request, theme));
+        }
+
+        List<Places> ranked = new ArrayList<>(places);
+        ranked.sort(Comparator.comparingDouble((Places place) -> scores.get(place)).reversed());
+        return ranked;
+    }
+
+    private double score(Places place, PlaceRecommendationRequest request, Color theme) {
+        double score = 0.0;
+
+        if (request.getCurrentLatitude() != null && request.getCurrentLongitude() != null) {
+            double distance = GeoUtils.calculateDistance(
+                    request.getCurrentLatitude().doubleValue(),
+                    request.getCurrentLongitude().doubleValue(),
+                    place.getLatitude().doubleValue(),
+                    place.getLongitude().doubleValue());
+            double scale = request.getMaxDistance() != null && request.getMaxDistance() > 0
+                    ? request.getMaxDistance() * 1000 : DEFAULT_DISTANCE_SCALE_METERS;
+            score += DISTANCE_WEIGHT * Math.max(0.0, 1.0 - distance / scale);
+        }
+
+        if (request.getPreferredCategories() != null && request.getPreferredCategories().contains(place.getCategory())) {
+            score += CATEGORY_WEIGHT;
+        }
+
+        if (theme != null && place.getCategory() != null
+                && THEME_AFFINITY.getOrDefault(theme, Set.of()).contains(place.getCategory())) {
+            score += THEME_WEIGHT;
+        }
+        return score;
+    }
+
+    // 색상 테마는 영문 이름(GREEN) 또는 한글 이름(초록)으로 들어올 수 있음
+    private Color resolveColor(String colorTheme) {
+        if (colorTheme == null || colorTheme.isBlank()) {
+            return null;
+        }
+        String value = colorTheme.trim();
+        for (Color color : Color.values()) {
+            if (color.name().equalsIgnoreCase(value) || color.getKoreanName().equals(value)) {
+                return color;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.color_walk.service;
+
+import com.example.color_walk.common.config.PlaceLocationInitializer;
+import com.example.color_walk.common.util.GeoKdTree;
+import com.example.color_walk.common.util.GeoUtils;
+import com.example.color_walk.domain.Places;
+import com.example.color_walk.repository.PlacesRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * 장소 좌표를 메모리에 올려둔 공간 인덱스 (KD-트리)
+ * - 추천/주변 장소 조회 시 전체 장소를 DB 에서 읽어 거리 계산하지 않도록 함
+ * - 장소 추가/삭제 시 새 트리를 만들어 교체하고, 다른 서버에서의 변경은 주기적으로 다시 읽어 반영
+ * - 로딩 전이거나 place.index.enabled=false 이면 DB 의 공간 인덱스(places.location)로 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceSpatialIndex {
+
+    private static final double METERS_PER_DEGREE = 111_320.0;
+    private static final double INITIAL_SEARCH_RADIUS_METERS = 1_000.0;
+    private static final double MAX_SEARCH_RADIUS_METERS = 20_037_000.0; // 지구 둘레의 절반
+
+    private final PlacesRepository placesRepository;
+    private final PlaceLocationInitializer placeLocationInitializer;
+
+    @Value("${place.index.enabled:true}")
+    private boolean enabled;
+
+    private volatile GeoKdTree<Places> tree;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${place.index.refresh-interval-ms:600000}",
+            initialDelayString = "${place.index.refresh-interval-ms:600000}")
+    public synchronized void reload() {
+        if (!enabled) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        List<Places> places = placesRepository.findAll();
+        tree = build(places);
+        log.info("장소 공간 인덱스 로딩 완료 - 장소 수: {}, 소요 시간: {}ms",
+                places.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    public boolean isReady() {
+        return tree != null;
+    }
+
+    /**
+     * 반경(미터) 안의 장소를 가까운 순으로 조회
+     */
+    public List<GeoKdTree.Neighbor<Places>> findWithinRadius(double latitude, double longitude, double radiusMeters) {
+        GeoKdTree<Places> current = tree;
+        if (current != null) {
+            return current.findWithinRadius(latitude, longitude, radiusMeters);
+        }
+        return findWithinRadiusFromDatabase(latitude, longitude, radiusMeters);
+    }
+
+    /**
+     * 가장 가까운 장소 k개를 가까운 순으로 조회 (category 가 null 이면 전체)
+     */
+    public List<GeoKdTree.Neighbor<Places>> findNearest(double latitude, double longitude, int k,
+                                                        Places.PlaceCategory category) {
+        GeoKdTree<Places> current = tree;
+        if (current != null) {
+            return current.findNearest(latitude, longitude, k,
+                    category != null ? place -> place.getCategory() == category : null);
+        }
+        return findNearestFromDatabase(latitude, longitude, k, category);
+    }
+
+    public List<Places> findAll() {
+        GeoKdTree<Places> current = tree;
+        return current != null ? current.getItems() : placesRepository.findAll();
+    }
+
+    /**
+     * 트랜잭션 커밋 후 인덱스에 장소 추가 (롤백된 장소가 인덱스에 남지 않도록)
+     */
+    public void addAfterCommit(Places place) {
+        runAfterCommit(() -> modify(places -> {
+            places.removeIf(existing -> existing.getId().equals(place.getId()));
+            places.add(place);
+        }));
+    }
+
+    public void removeAfterCommit(Long placeId) {
+        runAfterCommit(() -> modify(places -> places.removeIf(place -> place.getId().equals(placeId))));
+    }
+
+    private synchronized void modify(Consumer<List<Places>> change) {
+        GeoKdTree<Places> current = tree;
+        if (current == null) {
+            return; // 아직 로딩 전이면 로딩 시점에 DB 에서 함께 읽힘
+        }
+        List<Places> places = new ArrayList<>(current.getItems());
+        change.accept(places);
+        tree = build(places);
+    }
+
+    private GeoKdTree<Places> build(List<Places> places) {
+        return new GeoKdTree<>(places,
+                place -> place.getLatitude().doubleValue(),
+                place -> place.getLongitude().doubleValue());
+    }
+
+    /**
+     * 공간 인덱스가 있으면 DB 에서 거리까지 거르고, 없으면 위경도 사각 범위로 줄인 뒤 실제 거리로 다시 거름
+     */
+    private List<GeoKdTree.Neighbor<Places>> findWithinRadiusFromDatabase(double latitude, double longitude,
+                                                                         double radiusMeters) {
+        double latitudeDelta = radiusMeters / METERS_PER_DEGREE;
+        double longitudeDelta = radiusMeters / (METERS_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+
+        if (placeLocationInitializer.isAvailable()) {
+            List<Places> places = placesRepository.findWithinRadius(latitude, longitude,
+                    toAreaWkt(latitude, longitude, latitudeDelta, longitudeDelta), radiusMeters);
+            return withDistances(latitude, longitude, places, radiusMeters);
+        }
+
+        List<Places> candidates = placesRepository.findPlacesInArea(
+                toCoordinate(latitude - latitudeDelta), toCoordinate(latitude + latitudeDelta),
+                toCoordinate(longitude - longitudeDelta), toCoordinate(longitude + longitudeDelta));
+        return withDistances(latitude, longitude, candidates, radiusMeters);
+    }
+
+    /**
+     * DB 에는 kNN 연산자가 없으므로 반경을 넓혀가며 k개가 모일 때까지 공간 인덱스로 조회
+     */
+    private List<GeoKdTree.Neighbor<Places>> findNearestFromDatabase(double latitude, double longitude, int k,
+                                                                     Places.PlaceCategory category) {
+        if (!placeLocationInitializer.isAvailable()) {
+            List<Places> places = category != null
+                    ? placesRepository.findByCategory(category) : placesRepository.findAll();
+            return new GeoKdTree<>(places,
+                    place -> place.getLatitude().doubleValue(),
+                    place -> place.getLongitude().doubleValue())
+                    .findNearest(latitude, longitude, k, null);
+        }
+
+        String categoryName = category != null ? category.name() : null;
+        double radiusMeters = INITIAL_SEARCH_RADIUS_METERS;
+        while (true) {
+            double latitudeDelta = radiusMeters / METERS_PER_DEGREE;
+            double longitudeDelta = radiusMeters / (METERS_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+            List<Places> places = placesRepository.findNearestWithinRadius(latitude, longitude,
+                    toAreaWkt(latitude, longitude, latitudeDelta, longitudeDelta), radiusMeters, categoryName, k);
+
+            if (places.size() >= k || radiusMeters >= MAX_SEARCH_RADIUS_METERS) {
+                return withDistances(latitude, longitude, places, Double.MAX_VALUE);
+            }
+            radiusMeters = Math.min(radiusMeters * 4, MAX_SEARCH_RADIUS_METERS);
+        }
+    }
+
+    private List<GeoKdTree.Neighbor<Places>> withDistances(double latitude, double longitude,
+                                                           List<Places> places, double radiusMeters) {
+        List<GeoKdTree.Neighbor<Places>> result = new ArrayList<>(places.size());
+        for (Places place : places) {
+            double distance = GeoUtils.calculateDistance(latitude, longitude,
+                    place.getLatitude().doubleValue(), place.getLongitude().doubleValue());
+            if (distance <= radiusMeters) {
+                result.add(new GeoKdTree.Neighbor<>(place, distance));
+            }
+        }
+        result.sort(Comparator.comparingDouble(GeoKdTree.Neighbor::getDistanceMeters));
+        return result;
+    }
+
+    // SRID 4326 은 (위도 경도) 순서로 좌표를 기록
+    private String toAreaWkt(double latitude, double longitude, double latitudeDelta, double longitudeDelta) {
+        double minLat = Math.max(latitude - latitudeDelta, -90);
+        double maxLat = Math.min(latitude + latitudeDelta, 90);
+        double minLng = Math.max(longitude - longitudeDelta, -180);
+        double maxLng = Math.min(longitude + longitudeDelta, 180);
+        return String.format(Locale.ROOT, "POLYGON((%f %f, %f %f, %f %f, %f %f, %f %f))",
+                minLat, minLng, minLat, maxLng, maxLat, maxLng, maxLat, minLng, minLat, minLng);
+    }
+
+    private BigDecimal toCoordinate(double value) {
+        return BigDecimal.valueOf(value).setScale(8, RoundingMode.HALF_UP);
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
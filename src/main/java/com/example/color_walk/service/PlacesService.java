@@ -1,6 +1,7 @@
 package com.example.color_walk.service;
 
 import com.example.color_walk.domain.Places;
+import com.example.color_walk.domain.Places.PlaceCategory;
 import com.example.color_walk.dto.request.PlaceCreateRequest;
 import com.example.color_walk.dto.response.PlaceResponse;
 import com.example.color_walk.repository.PlacesRepository;
@@ -17,7 +18,11 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class PlacesService {
 
+    private static final int MAX_NEARBY_PLACES = 100;
+
     private final PlacesRepository placesRepository;
+    private final PlaceSpatialIndex placeSpatialIndex;
+    private final RecommendationCache recommendationCache;
 
     @Transactional
     public PlaceResponse createPlace(PlaceCreateRequest request) {
@@ -32,6 +37,8 @@ public class PlacesService {
                 .build();
 
         Places savedPlace = placesRepository.save(place);
+        placeSpatialIndex.addAfterCommit(savedPlace);
+        recommendationCache.evictAroundAfterCommit(savedPlace);
         return PlaceResponse.from(savedPlace);
     }
 
@@ -41,6 +48,8 @@ public class PlacesService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 장소입니다. ID: " + placeId));
         
         placesRepository.delete(place);
+        placeSpatialIndex.removeAfterCommit(placeId);
+        recommendationCache.evictAroundAfterCommit(place);
     }
 
     public PlaceResponse getPlace(Long placeId) {
@@ -55,4 +64,18 @@ public class PlacesService {
                 .map(PlaceResponse::from)
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    /**
+     * 현재 위치에서 가까운 장소 k개 조회
+     */
+    public List<PlaceResponse> getNearbyPlaces(double latitude, double longitude, int k, PlaceCategory category) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("위도/경도 범위가 올바르지 않습니다.");
+        }
+        int limit = Math.max(1, Math.min(k, MAX_NEARBY_PLACES));
+
+        return placeSpatialIndex.findNearest(latitude, longitude, limit, category).stream()
+                .map(neighbor -> PlaceResponse.from(neighbor.getItem(), neighbor.getDistanceMeters()))
+                .collect(Collectors.toList());
+    }
+}
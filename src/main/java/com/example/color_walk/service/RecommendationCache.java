@@ -0,0 +1,180 @@
+package com.example.color_walk.service;
+
+import com.example.color_walk.common.util.GeoHash;
+import com.example.color_walk.common.util.GeoUtils;
+import com.example.color_walk.common.util.TtlLruCache;
+import com.example.color_walk.domain.Places;
+import com.example.color_walk.dto.request.PlaceRecommendationRequest;
+import com.example.color_walk.dto.response.PlaceRecommendationResponse;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * 장소 추천 결과 캐시
+ * - 사용자 위치를 geohash 격자로 묶고, 선호 조건을 정규화한 값과 함께 키로 사용
+ * - 같은 동네에서 같은 조건으로 요청하면 Gemini 호출 없이 재사용하고, 사용자별 거리만 다시 계산
+ * - 자유 입력인 추가 요구사항이 있는 요청은 캐시하지 않음
+ * - 장소가 추가/삭제되면 그 장소가 후보가 될 수 있는 격자의 결과를 제거
+ */
+@Component
+public class RecommendationCache {
+
+    private final TtlLruCache<Key, PlaceRecommendationResponse> cache;
+    private final int geohashPrecision;
+
+    public RecommendationCache(@Value("${recommendation.cache.max-entries:500}") int maxEntries,
+                               @Value("${recommendation.cache.ttl-ms:600000}") long ttlMillis,
+                               @Value("${recommendation.cache.geohash-precision:6}") int geohashPrecision) {
+        this.cache = new TtlLruCache<>(maxEntries, ttlMillis);
+        this.geohashPrecision = geohashPrecision;
+    }
+
+    /**
+     * 캐시된 추천 결과를 요청자 위치 기준 거리로 다시 계산해 반환
+     * - 같은 격자라도 요청자의 최대 거리를 넘는 장소는 제외하고, 남은 장소가 minPlaces 개
+     *   (캐시된 결과가 그보다 적으면 그 개수) 미만이면 캐시 미스로 처리
+     */
+    public PlaceRecommendationResponse get(PlaceRecommendationRequest request, int minPlaces) {
+        if (!isCacheable(request)) {
+            return null;
+        }
+        PlaceRecommendationResponse cached = cache.get(toKey(request));
+        if (cached == null) {
+            return null;
+        }
+
+        List<PlaceRecommendationResponse.RecommendedPlace> places = cached.getRecommendedPlaces().stream()
+                .map(place -> withDistance(place, request))
+                .filter(place -> request.getMaxDistance() == null
+                        || place.getDistanceFromUser() <= request.getMaxDistance())
+                .collect(Collectors.toList());
+
+        if (places.size() < Math.min(minPlaces, cached.getRecommendedPlaces().size())) {
+            return null;
+        }
+
+        return PlaceRecommendationResponse.builder()
+                .recommendationReason(cached.getRecommendationReason())
+                .recommendedPlaces(places)
+                .build();
+    }
+
+    public void put(PlaceRecommendationRequest request, PlaceRecommendationResponse response) {
+        if (isCacheable(request)) {
+            cache.put(toKey(request), response);
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 후 해당 장소를 후보로 포함할 수 있는 추천 결과 제거
+     */
+    public void evictAroundAfterCommit(Places place) {
+        double latitude = place.getLatitude().doubleValue();
+        double longitude = place.getLongitude().doubleValue();
+        Runnable eviction = () -> cache.removeIf(key -> key.mayContain(latitude, longitude));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${recommendation.cache.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        cache.evictExpired();
+    }
+
+    private boolean isCacheable(PlaceRecommendationRequest request) {
+        return request.getAdditionalRequirements() == null || request.getAdditionalRequirements().isBlank();
+    }
+
+    private Key toKey(PlaceRecommendationRequest request) {
+        String geohash = request.getCurrentLatitude() != null && request.getCurrentLongitude() != null
+                ? GeoHash.encode(request.getCurrentLatitude().doubleValue(),
+                request.getCurrentLongitude().doubleValue(), geohashPrecision)
+                : null;
+
+        String categories = request.getPreferredCategories() == null ? "" :
+                request.getPreferredCategories().stream()
+                        .map(Enum::name)
+                        .distinct()
+                        .sorted()
+                        .collect(Collectors.joining(","));
+
+        return new Key(geohash,
+                normalize(request.getPreferredColorTheme()),
+                categories,
+                normalize(request.getActivityLevel()),
+                normalize(request.getWeatherCondition()),
+                normalize(request.getTimeOfDay()),
+                geohash != null ? request.getMaxDistance() : null);
+    }
+
+    private String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private PlaceRecommendationResponse.RecommendedPlace withDistance(
+            PlaceRecommendationResponse.RecommendedPlace place, PlaceRecommendationRequest request) {
+        double distanceFromUser = 0.0;
+        BigDecimal latitude = request.getCurrentLatitude();
+        BigDecimal longitude = request.getCurrentLongitude();
+        if (latitude != null && longitude != null) {
+            distanceFromUser = GeoUtils.calculateDistance(latitude.doubleValue(), longitude.doubleValue(),
+                    place.getLatitude(), place.getLongitude()) / 1000.0;
+        }
+
+        return PlaceRecommendationResponse.RecommendedPlace.builder()
+                .placeId(place.getPlaceId())
+                .name(place.getName())
+                .description(place.getDescription())
+                .latitude(place.getLatitude())
+                .longitude(place.getLongitude())
+                .address(place.getAddress())
+                .imageUrl(place.getImageUrl())
+                .category(place.getCategory())
+                .distanceFromUser(distanceFromUser)
+                .aiRecommendationReason(place.getAiRecommendationReason())
+                .priority(place.getPriority())
+                .build();
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class Key {
+        private final String geohash;
+        private final String colorTheme;
+        private final String categories;
+        private final String activityLevel;
+        private final String weatherCondition;
+        private final String timeOfDay;
+        private final Double maxDistance;
+
+        // 위치나 거리 제한이 없으면 모든 장소가 후보이므로 항상 영향을 받음
+        private boolean mayContain(double latitude, double longitude) {
+            if (geohash == null || maxDistance == null) {
+                return true;
+            }
+            GeoHash.Cell cell = GeoHash.decode(geohash);
+            double distance = GeoUtils.calculateDistance(cell.getCenterLatitude(), cell.getCenterLongitude(),
+                    latitude, longitude);
+            return distance <= maxDistance * 1000 + cell.getHalfDiagonalMeters();
+        }
+    }
+}
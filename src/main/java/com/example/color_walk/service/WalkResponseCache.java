@@ -0,0 +1,93 @@
+package com.example.color_walk.service;
+
+import com.example.color_walk.common.util.TtlLruCache;
+import com.example.color_walk.domain.RouteLevel;
+import com.example.color_walk.dto.response.WalkResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * 종료된 산책의 상세 응답을 직렬화된 JSON 바이트로 보관하는 캐시
+ * - 종료된 산책은 사진 추가/삭제 외에는 바뀌지 않으므로 응답 전체를 재사용
+ * - 캐시 적중 시 DB 조회와 JSON 직렬화 없이 바로 응답
+ */
+@Component
+public class WalkResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final TtlLruCache<String, byte[]> cache;
+
+    public WalkResponseCache(ObjectMapper objectMapper,
+                             @Value("${walk.cache.max-entries:1000}") int maxEntries,
+                             @Value("${walk.cache.ttl-ms:3600000}") long ttlMillis) {
+        this.objectMapper = objectMapper;
+        this.cache = new TtlLruCache<>(maxEntries, ttlMillis);
+    }
+
+    /**
+     * 캐시된 응답이 있으면 반환하고, 없으면 조회 후 종료된 산책인 경우에만 저장
+     */
+    public byte[] getOrLoad(Long walkId, RouteLevel routeLevel, Supplier<WalkResponse> loader) {
+        String key = key(walkId, routeLevel);
+        byte[] cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        WalkResponse response = loader.get();
+        byte[] serialized = serialize(response);
+
+        // 진행 중인 산책은 포인트가 계속 추가되므로 캐시하지 않음
+        if (response.getEndTime() != null) {
+            cache.put(key, serialized);
+        }
+        return serialized;
+    }
+
+    public byte[] serialize(WalkResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("산책 응답 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    public void evict(Long walkId) {
+        for (RouteLevel routeLevel : RouteLevel.values()) {
+            cache.remove(key(walkId, routeLevel));
+        }
+    }
+
+    /**
+     * 즉시 제거하고, 트랜잭션 커밋 후 한 번 더 제거
+     * (커밋 전에 다른 요청이 이전 데이터를 다시 캐시하는 경우 방지)
+     */
+    public void evictAfterCommit(Long walkId) {
+        evict(walkId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(walkId);
+                }
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${walk.cache.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        cache.evictExpired();
+    }
+
+    private String key(Long walkId, RouteLevel routeLevel) {
+        return walkId + ":" + routeLevel.name();
+    }
+}
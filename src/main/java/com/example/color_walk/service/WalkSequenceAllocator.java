@@ -0,0 +1,40 @@
+package com.example.color_walk.service;
+
+import com.example.color_walk.repository.WalkingPointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 진행 중인 산책별 GPS 포인트 순번 할당기
+ * - 산책마다 한 번만 max(sequence) 로 초기화하고 이후에는 쿼리 없이 원자적으로 증가
+ */
+@Component
+@RequiredArgsConstructor
+public class WalkSequenceAllocator {
+
+    private final WalkingPointRepository walkingPointRepository;
+
+    private final ConcurrentHashMap<Long, AtomicInteger> counters = new ConcurrentHashMap<>();
+
+    /**
+     * 다음 순번 할당
+     */
+    public int next(Long walkId) {
+        return counter(walkId).incrementAndGet();
+    }
+
+    /**
+     * 산책이 끝나면 카운터 해제
+     */
+    public void release(Long walkId) {
+        counters.remove(walkId);
+    }
+
+    private AtomicInteger counter(Long walkId) {
+        return counters.computeIfAbsent(walkId,
+                id -> new AtomicInteger(walkingPointRepository.findMaxSequenceByWalkId(id)));
+    }
+}
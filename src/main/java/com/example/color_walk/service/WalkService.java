@@ -1,35 +1,72 @@
 package com.example.color_walk.service;
 
+import com.example.color_walk.common.exception.AiUnavailableException;
+import com.example.color_walk.common.util.GeoKdTree;
+import com.example.color_walk.common.util.GeoUtils;
+import com.example.color_walk.common.util.PageCursor;
+import com.example.color_walk.common.util.PolylineCodec;
+import com.example.color_walk.common.util.RouteSimplifier;
 import com.example.color_walk.domain.Member;
 import com.example.color_walk.domain.Photo;
 import com.example.color_walk.domain.Places;
+import com.example.color_walk.domain.RouteLevel;
 import com.example.color_walk.domain.Walk;
 import com.example.color_walk.domain.WalkingPoint;
 import com.example.color_walk.dto.request.PlaceRecommendationRequest;
 import com.example.color_walk.dto.request.StartWalkRequest;
+import com.example.color_walk.dto.request.WalkingPointBatchRequest;
 import com.example.color_walk.dto.request.WalkingPointRequest;
 import com.example.color_walk.dto.response.ColorAnalysisResponse;
 import com.example.color_walk.dto.response.ColorMatchingResult;
 import com.example.color_walk.dto.response.PlaceRecommendationResponse;
 import com.example.color_walk.dto.response.WalkResponse;
+import com.example.color_walk.dto.response.WalkSliceResponse;
+import com.example.color_walk.dto.response.WalkSummaryResponse;
+import com.example.color_walk.dto.response.WalkingPointResponse;
 import com.example.color_walk.repository.MemberRepository;
-import com.example.color_walk.repository.PlacesRepository;
 import com.example.color_walk.repository.WalkRepository;
 import com.example.color_walk.repository.WalkingPointRepository;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.example.color_walk.dto.response.WalkResponse.convertToWalkResponse;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -38,9 +75,44 @@ public class WalkService {
     private final WalkRepository walkRepository;
     private final WalkingPointRepository walkingPointRepository;
     private final MemberRepository memberRepository;
-    private final PlacesRepository placesRepository;
     private final GeminiService geminiService;
     private final ColorAnalysisService colorAnalysisService;
+    private final ActiveWalkRegistry activeWalkRegistry;
+    private final WalkResponseCache walkResponseCache;
+    private final PlaceSpatialIndex placeSpatialIndex;
+    private final RecommendationCache recommendationCache;
+    private final PlaceRanker placeRanker;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int RECOMMENDATION_COUNT = 5;
+    private static final String FALLBACK_RECOMMENDATION_REASON = "시스템이 선별한 추천 장소입니다.";
+
+    // 추천 응답 형식: [{"index": 후보 번호, "name": 장소명, "reason": 추천이유}]
+    private static final Map<String, Object> RECOMMENDATION_SCHEMA = Map.of(
+            "type", "ARRAY",
+            "items", Map.of(
+                    "type", "OBJECT",
+                    "properties", Map.of(
+                            "index", Map.of("type", "INTEGER"),
+                            "name", Map.of("type", "STRING"),
+                            "reason", Map.of("type", "STRING")),
+                    "required", List.of("index", "name", "reason")));
+
+    // 경로 압축 후 포인트 행 삭제 여부
+    @Value("${walk.route.drop-points-on-finish:false}")
+    private boolean dropPointsOnFinish;
+
+    @Value("${recommendation.deadline-ms:2500}")
+    private long recommendationDeadlineMillis;
+
+    @Value("${recommendation.prompt.max-candidates:15}")
+    private int promptMaxCandidates;
+
+    @Value("${recommendation.prompt.description-max-chars:80}")
+    private int promptDescriptionMaxChars;
 
     /**
      * 산책 시작
@@ -73,39 +145,47 @@ public class WalkService {
 
     /**
      * GPS 포인트 저장
+     * - 메모리 버퍼에 추가한 뒤 주기적으로 배치 저장
+     * (버퍼 저장은 자체 트랜잭션을 사용하므로 바깥 트랜잭션 없이 실행해 커넥션을 중복으로 잡지 않음)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void saveWalkingPoint(WalkingPointRequest request) {
-        Walk walk = walkRepository.findById(request.getWalkId())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 산책입니다."));
-
-        // 현재 산책의 포인트 수를 조회해서 sequence 설정
-        int currentPointCount = walkingPointRepository.countByWalkId(request.getWalkId());
-
-        WalkingPoint walkingPoint = WalkingPoint.builder()
-                .walk(walk)
-                .latitude(request.getLatitude())
-                .longitude(request.getLongitude())
-                .timestamp(request.getTimestamp() != null ? request.getTimestamp() : LocalDateTime.now())
-                .sequence(currentPointCount + 1)
-                .build();
-
-        walkingPointRepository.save(walkingPoint);
+        activeWalkRegistry.append(request.getWalkId(), request.getLatitude(), request.getLongitude(),
+                request.getTimestamp());
+    }
 
-        // 총 거리 업데이트 (2개 이상의 포인트가 있을 때)
-        if (currentPointCount > 0) {
-            updateTotalDistance(walk.getId());
-        }
+    /**
+     * GPS 포인트 일괄 저장
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void saveWalkingPoints(Long walkId, WalkingPointBatchRequest request) {
+        // 버퍼에 남아있던 포인트와 함께 한 트랜잭션으로 저장되고 총 거리도 한 번만 업데이트
+        activeWalkRegistry.appendBatch(walkId, request.getPoints(), LocalDateTime.now());
     }
 
     /**
      * 산책 종료
+     * - 버퍼에 남은 포인트를 먼저 저장한 뒤 새 트랜잭션에서 종료 처리
+     * - 포인트 저장에 실패하면 경로를 확정하지 않고 503 으로 응답 (클라이언트가 종료를 재시도)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public WalkResponse finishWalk(Long walkId) {
+        // 버퍼에 남은 포인트를 먼저 저장해야 최종 경로와 거리가 반영됨
+        activeWalkRegistry.close(walkId);
+
+        return inTransaction(false, () -> completeWalk(walkId));
+    }
+
+    private WalkResponse completeWalk(Long walkId) {
         Walk walk = walkRepository.findById(walkId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 산책입니다."));
 
+        // 총 거리는 포인트 저장 시 누적된 값을 그대로 사용
         walk.setEndTime(LocalDateTime.now());
-        updateTotalDistance(walkId); // 최종 거리 계산
+
+        if (walk.getEncodedRoute() == null) {
+            compactRoute(walk);
+        }
 
         // 산책한 색상을 멤버에게 획득
         Member member = walk.getMember();
@@ -114,33 +194,167 @@ public class WalkService {
 
         Walk updatedWalk = walkRepository.save(walk);
 
+        // 종료 시각이 바뀌었으므로 이전에 캐시된 응답 제거
+        walkResponseCache.evictAfterCommit(walkId);
+
         return convertToWalkResponse(updatedWalk);
     }
 
+    /**
+     * 경로 압축 저장
+     * - 포인트들을 하나의 encoded polyline 으로 묶어 산책에 저장
+     */
+    private void compactRoute(Walk walk) {
+        List<WalkingPoint> points = walkingPointRepository.findByWalkIdOrderBySequence(walk.getId());
+
+        double[] latitudes = new double[points.size()];
+        double[] longitudes = new double[points.size()];
+        long[] epochSeconds = new long[points.size()];
+        int count = 0;
+
+        for (WalkingPoint point : points) {
+            if (point.getLatitude() == null || point.getLongitude() == null) {
+                continue;
+            }
+            latitudes[count] = point.getLatitude();
+            longitudes[count] = point.getLongitude();
+            epochSeconds[count] = point.getTimestamp() != null
+                    ? point.getTimestamp().atZone(ZoneId.systemDefault()).toEpochSecond()
+                    : (count > 0 ? epochSeconds[count - 1] : 0L);
+            count++;
+        }
+
+        latitudes = Arrays.copyOf(latitudes, count);
+        longitudes = Arrays.copyOf(longitudes, count);
+
+        walk.setEncodedRoute(PolylineCodec.encodeCoordinates(latitudes, longitudes));
+        walk.setEncodedTimestamps(PolylineCodec.encodeValues(Arrays.copyOf(epochSeconds, count)));
+        walk.setPointCount(count);
+
+        // 지도 축척별로 미리 단순화한 경로도 함께 저장
+        walk.setMediumRoute(encodeSimplifiedRoute(latitudes, longitudes, RouteLevel.MEDIUM));
+        walk.setPreviewRoute(encodeSimplifiedRoute(latitudes, longitudes, RouteLevel.PREVIEW));
+
+        if (dropPointsOnFinish) {
+            walkingPointRepository.deleteByWalkId(walk.getId());
+        }
+    }
+
+    private String encodeSimplifiedRoute(double[] latitudes, double[] longitudes, RouteLevel routeLevel) {
+        int[] indices = RouteSimplifier.simplify(latitudes, longitudes, routeLevel.getToleranceMeters());
+
+        double[] simplifiedLatitudes = new double[indices.length];
+        double[] simplifiedLongitudes = new double[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            simplifiedLatitudes[i] = latitudes[indices[i]];
+            simplifiedLongitudes[i] = longitudes[indices[i]];
+        }
+        return PolylineCodec.encodeCoordinates(simplifiedLatitudes, simplifiedLongitudes);
+    }
+
     /**
      * 산책 상세 조회
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public WalkResponse getWalkDetail(Long walkId, RouteLevel routeLevel, Double toleranceMeters) {
+        if (toleranceMeters != null && !(toleranceMeters > 0 && Double.isFinite(toleranceMeters))) {
+            throw new IllegalArgumentException("경로 단순화 허용 오차는 0보다 큰 유한한 값이어야 합니다.");
+        }
+
+        // 진행 중인 산책이면 버퍼에 남은 포인트까지 저장한 뒤 조회
+        activeWalkRegistry.flush(walkId);
+
+        return inTransaction(true, () -> loadWalkDetail(walkId, routeLevel, toleranceMeters));
+    }
+
+    private WalkResponse loadWalkDetail(Long walkId, RouteLevel routeLevel, Double toleranceMeters) {
+        // 회원/사진은 한 번에, 경로 포인트는 압축 경로가 없을 때만 별도 쿼리로 로딩 (최대 2회)
+        Walk walk = walkRepository.findDetailById(walkId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 산책입니다."));
+        if (walk.getEncodedRoute() == null) {
+            walkRepository.fetchWalkingPointsById(walkId);
+        }
+
+        // 허용 오차를 직접 지정하면 원본 경로를 그 오차로 단순화
+        if (toleranceMeters != null) {
+            return convertToWalkResponse(walk, toleranceMeters);
+        }
+        return convertToWalkResponse(walk, routeLevel);
+    }
+
+    /**
+     * 스트리밍 응답용 산책 정보 조회 (경로 포인트 제외)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public WalkResponse getWalkOverview(Long walkId) {
+        activeWalkRegistry.flush(walkId);
+
+        return inTransaction(true, () -> WalkResponse.convertToWalkOverview(
+                walkRepository.findDetailById(walkId)
+                        .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 산책입니다."))));
+    }
+
+    /**
+     * 경로 포인트 스트리밍 전 확인
+     * - 응답이 시작된 뒤에는 오류 응답을 보낼 수 없으므로 산책 존재 여부를 먼저 확인
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void prepareWalkingPointStream(Long walkId) {
+        activeWalkRegistry.flush(walkId);
+
+        if (!walkRepository.existsById(walkId)) {
+            throw new IllegalArgumentException("존재하지 않는 산책입니다.");
+        }
+    }
+
+    /**
+     * 경로 포인트를 목록으로 모으지 않고 한 건씩 전달
+     * - 종료된 산책은 압축 경로를, 진행 중인 산책은 DB 커서를 따라 읽음
+     */
     @Transactional(readOnly = true)
-    public WalkResponse getWalkDetail(Long walkId) {
+    public void streamWalkingPoints(Long walkId, Consumer<WalkingPointResponse> consumer) {
         Walk walk = walkRepository.findById(walkId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 산책입니다."));
 
-        return convertToWalkResponse(walk);
+        if (walk.getEncodedRoute() != null) {
+            WalkResponse.forEachDecodedWalkingPoint(walk, consumer);
+            return;
+        }
+
+        try (Stream<WalkingPointResponse> walkingPoints = walkingPointRepository.streamByWalkId(walkId)) {
+            walkingPoints.forEach(consumer);
+        }
+    }
+
+    // 버퍼 저장(ActiveWalkRegistry)을 마친 뒤 조회/수정용 트랜잭션을 따로 열어 커넥션을 하나만 사용
+    private <T> T inTransaction(boolean readOnly, Supplier<T> action) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> action.get());
     }
 
     /**
      * 회원의 산책 목록 조회
      */
     @Transactional(readOnly = true)
-    public List<WalkResponse> getMemberWalks(Long memberId) {
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
+    public WalkSliceResponse getMemberWalks(Long memberId, String cursor, int size) {
+        if (!memberRepository.existsById(memberId)) {
+            throw new IllegalArgumentException("존재하지 않는 회원입니다.");
+        }
 
-        List<Walk> walks = walkRepository.findByMemberIdOrderByStartTimeDesc(memberId);
+        int pageSize = normalizePageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
 
-        return walks.stream()
-                .map(WalkResponse::convertToWalkResponse)
-                .toList();
+        // 경로/사진 컬렉션을 로딩하지 않는 요약 프로젝션으로 한 번에 조회
+        List<WalkSummaryResponse> walks;
+        if (cursor == null) {
+            walks = walkRepository.findSummariesByMemberId(memberId, limit);
+        } else {
+            PageCursor pageCursor = PageCursor.decode(cursor);
+            walks = walkRepository.findSummariesByMemberIdBefore(memberId, pageCursor.getTime(), pageCursor.getId(), limit);
+        }
+
+        return WalkSliceResponse.of(walks, pageSize, WalkSummaryResponse::getStartTime);
     }
 
     /**
@@ -179,377 +393,320 @@ public class WalkService {
      * 모든 산책 목록 조회 (최신 업데이트 순)
      */
     @Transactional(readOnly = true)
-    public List<WalkResponse> getAllWalks() {
-        List<Walk> walks = walkRepository.findAllByOrderByUpdatedAtDesc();
-        
-        return walks.stream()
-                .map(WalkResponse::convertToWalkResponse)
-                .toList();
-    }
+    public WalkSliceResponse getAllWalks(String cursor, int size) {
+        int pageSize = normalizePageSize(size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
 
-    /**
-     * 총 거리 계산 및 업데이트
-     */
-    private void updateTotalDistance(Long walkId) {
-        List<WalkingPoint> points = walkingPointRepository.findByWalkIdOrderBySequence(walkId);
-
-        double totalDistance = 0.0;
-        for (int i = 1; i < points.size(); i++) {
-            WalkingPoint prev = points.get(i - 1);
-            WalkingPoint curr = points.get(i);
-            totalDistance += calculateDistance(
-                    prev.getLatitude(), prev.getLongitude(),
-                    curr.getLatitude(), curr.getLongitude()
-            );
+        List<WalkSummaryResponse> walks;
+        if (cursor == null) {
+            walks = walkRepository.findAllSummaries(limit);
+        } else {
+            PageCursor pageCursor = PageCursor.decode(cursor);
+            walks = walkRepository.findAllSummariesBefore(pageCursor.getTime(), pageCursor.getId(), limit);
         }
 
-        walkRepository.updateTotalDistance(walkId, totalDistance);
+        return WalkSliceResponse.of(walks, pageSize, WalkSummaryResponse::getUpdatedAt);
+    }
+
+    private int normalizePageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
     }
 
     /**
-     * 두 GPS 좌표 간 거리 계산 (Haversine 공식)
+     * 장소 추천
+     * - 로컬 순위를 먼저 만들고, Gemini 추천은 비동기로 요청해 마감 시간 안에 끝난 경우에만 사용
+     * - 마감 이후에 도착한 Gemini 결과는 다음 요청을 위해 캐시에만 저장
+     * (Gemini 를 기다리는 동안 DB 커넥션과 요청 스레드를 잡지 않도록 트랜잭션 없이 실행)
      */
-    private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-        final int EARTH_RADIUS = 6371; // 지구 반지름 (km)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<PlaceRecommendationResponse> recommendPlacesAsync(PlaceRecommendationRequest request) {
+        long startedAt = System.currentTimeMillis();
 
-        double latDistance = Math.toRadians(lat2 - lat1);
-        double lonDistance = Math.toRadians(lon2 - lon1);
-
-        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
-
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-
-        return EARTH_RADIUS * c * 1000; // 미터 단위로 반환
-    }
-
-    @Transactional(readOnly = true)
-    public PlaceRecommendationResponse recommendPlaces(PlaceRecommendationRequest request) {
         Member member = memberRepository.findById(request.getMemberId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
 
+        // 같은 격자/같은 조건의 최근 추천 결과가 있으면 Gemini 호출 없이 사용
+        PlaceRecommendationResponse cached = recommendationCache.get(request, RECOMMENDATION_COUNT);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
         List<Places> candidatePlaces = getCandidatePlaces(request);
 
         if (candidatePlaces.isEmpty()) {
-            return PlaceRecommendationResponse.builder()
+            return CompletableFuture.completedFuture(PlaceRecommendationResponse.builder()
                     .recommendationReason("추천할 수 있는 장소가 없습니다. 검색 조건을 완화해보세요.")
                     .recommendedPlaces(new ArrayList<>())
-                    .build();
+                    .build());
         }
 
-        List<PlaceRecommendationResponse.RecommendedPlace> recommendedPlaces = 
-                getAIRecommendedPlaces(candidatePlaces, request);
+        // 거리/카테고리/색상 테마로 정렬해 두면 AI 응답이 부족하거나 늦을 때도 바로 사용 가능
+        List<Places> rankedPlaces = placeRanker.rank(candidatePlaces, request);
+        // 일시적인 AI 장애/지연으로 만든 로컬 결과는 캐시하지 않음
+        PlaceRecommendationResponse localRecommendation =
+                toRecommendationResponse(request, getFallbackRecommendations(rankedPlaces, request));
+
+        CompletableFuture<PlaceRecommendationResponse> aiRecommendation = getAIRecommendedPlacesAsync(rankedPlaces, request)
+                .thenApply(places -> toRecommendationResponse(request, places));
+        // 늦게 끝난 AI 결과도 같은 조건의 다음 요청에서 사용
+        aiRecommendation.thenAccept(response -> recommendationCache.put(request, response));
+
+        return withDeadline(aiRecommendation, localRecommendation, startedAt);
+    }
 
-        String overallReason = generateOverallRecommendationReason(request, recommendedPlaces);
+    /**
+     * 요청 시작부터 recommendation.deadline-ms 안에 끝나지 않았거나 실패한 AI 결과 대신 로컬 결과로 응답
+     * - 기다리는 스레드 없이 AI 결과의 사본에만 시간 제한을 걸어, 원본은 마감 이후에도 끝까지 완료됨
+     */
+    private <T> CompletableFuture<T> withDeadline(CompletableFuture<T> aiResult, T localResult, long startedAt) {
+        long remainingMillis = recommendationDeadlineMillis - (System.currentTimeMillis() - startedAt);
+        return aiResult.copy()
+                .orTimeout(Math.max(remainingMillis, 0), TimeUnit.MILLISECONDS)
+                .handle((result, e) -> {
+                    if (e == null) {
+                        return result;
+                    }
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof AiUnavailableException) {
+                        log.info("AI 호출이 차단되어 로컬 추천으로 응답합니다: {}", cause.getMessage());
+                    } else if (cause instanceof TimeoutException) {
+                        log.info("AI 추천이 마감 시간({}ms)을 넘겨 로컬 추천으로 응답합니다.", recommendationDeadlineMillis);
+                    } else {
+                        log.warn("AI 추천 실패, 로컬 추천으로 응답합니다: {}", cause.getMessage());
+                    }
+                    return localResult;
+                });
+    }
 
+    private PlaceRecommendationResponse toRecommendationResponse(PlaceRecommendationRequest request,
+            List<PlaceRecommendationResponse.RecommendedPlace> recommendedPlaces) {
         return PlaceRecommendationResponse.builder()
-                .recommendationReason(overallReason)
+                .recommendationReason(generateOverallRecommendationReason(request, recommendedPlaces))
                 .recommendedPlaces(recommendedPlaces)
                 .build();
     }
 
     private List<Places> getCandidatePlaces(PlaceRecommendationRequest request) {
         // 카테고리 필터링 제거 - 모든 장소를 후보로 사용
-        List<Places> candidatePlaces = placesRepository.findAll();
-
-        // 거리 필터링은 유지
-        if (request.getCurrentLatitude() != null && request.getCurrentLongitude() != null 
-                && request.getMaxDistance() != null) {
-            candidatePlaces = candidatePlaces.stream()
-                    .filter(place -> {
-                        double distance = calculateDistance(
-                                request.getCurrentLatitude().doubleValue(),
-                                request.getCurrentLongitude().doubleValue(),
-                                place.getLatitude().doubleValue(),
-                                place.getLongitude().doubleValue()
-                        );
-                        return distance <= request.getMaxDistance() * 1000; // km to meters
-                    })
-                    .collect(Collectors.toList());
+        if (request.getCurrentLatitude() == null || request.getCurrentLongitude() == null
+                || request.getMaxDistance() == null) {
+            return placeSpatialIndex.findAll();
         }
 
-        return candidatePlaces;
+        // 거리 필터링은 공간 인덱스의 반경 조회로 처리
+        return placeSpatialIndex.findWithinRadius(
+                        request.getCurrentLatitude().doubleValue(),
+                        request.getCurrentLongitude().doubleValue(),
+                        request.getMaxDistance() * 1000) // km to meters
+                .stream()
+                .map(GeoKdTree.Neighbor::getItem)
+                .collect(Collectors.toList());
     }
 
-    private List<PlaceRecommendationResponse.RecommendedPlace> getAIRecommendedPlaces(
+    private CompletableFuture<List<PlaceRecommendationResponse.RecommendedPlace>> getAIRecommendedPlacesAsync(
             List<Places> candidatePlaces, PlaceRecommendationRequest request) {
         
-        String aiPrompt = buildAIPrompt(candidatePlaces, request);
-        
-        try {
-            String aiResponse = callGeminiForRecommendation(aiPrompt);
-            return parseAIResponseAndSelectPlaces(candidatePlaces, aiResponse, request);
-        } catch (Exception e) {
-            return getFallbackRecommendations(candidatePlaces, request);
-        }
+        // 로컬 순위 상위 후보만 프롬프트에 포함 (AI 가 고른 번호도 이 목록 기준)
+        List<Places> promptCandidates = candidatePlaces.subList(0, Math.min(promptMaxCandidates, candidatePlaces.size()));
+
+        String aiPrompt = buildAIPrompt(promptCandidates, request);
+        meterRegistry.summary("recommendation.prompt.chars").record(aiPrompt.length());
+        meterRegistry.summary("recommendation.prompt.candidates").record(promptCandidates.size());
+
+        return callGeminiForRecommendationAsync(aiPrompt)
+                .thenApply(aiResponse -> parseAIResponseAndSelectPlaces(promptCandidates, aiResponse, request));
     }
 
+    /**
+     * 추천 프롬프트 생성
+     * - 후보는 한 줄에 하나씩 "[번호] 이름 | 카테고리 | 거리 | 요약 설명" 형식으로 고정
+     * - 설명은 recommendation.prompt.description-max-chars 까지만 포함
+     */
     private String buildAIPrompt(List<Places> places, PlaceRecommendationRequest request) {
-        StringBuilder prompt = new StringBuilder();
-        prompt.append("**중요**: 반드시 아래 제공된 후보 장소들 중에서만 선택해주세요. 목록에 없는 장소는 절대 추천하지 마세요.\n\n");
-        
-        prompt.append("사용자 선호도:\n");
-        if (request.getPreferredColorTheme() != null) {
-            prompt.append("- 선호 색상 테마: ").append(request.getPreferredColorTheme()).append("\n");
-        }
+        StringBuilder prompt = new StringBuilder(512 + places.size() * (promptDescriptionMaxChars + 48));
+        prompt.append("아래 후보 목록에서만 서로 다른 장소 5곳을 골라 추천하세요.\n\n");
+
+        prompt.append("[사용자]\n");
+        appendPreference(prompt, "색상 테마", request.getPreferredColorTheme());
         if (request.getPreferredCategories() != null && !request.getPreferredCategories().isEmpty()) {
-            prompt.append("- 선호 카테고리: ").append(request.getPreferredCategories()).append("\n");
-        }
-        if (request.getActivityLevel() != null) {
-            prompt.append("- 활동 수준: ").append(request.getActivityLevel()).append("\n");
-        }
-        if (request.getWeatherCondition() != null) {
-            prompt.append("- 날씨 상태: ").append(request.getWeatherCondition()).append("\n");
-        }
-        if (request.getTimeOfDay() != null) {
-            prompt.append("- 시간대: ").append(request.getTimeOfDay()).append("\n");
-        }
-        if (request.getAdditionalRequirements() != null) {
-            prompt.append("- 추가 요구사항: ").append(request.getAdditionalRequirements()).append("\n");
-        }
-        if (request.getCurrentLatitude() != null && request.getCurrentLongitude() != null) {
-            prompt.append("- 현재 위치: 위도 ").append(request.getCurrentLatitude())
-                    .append(", 경도 ").append(request.getCurrentLongitude()).append("\n");
+            appendPreference(prompt, "카테고리", request.getPreferredCategories().stream()
+                    .map(Enum::name)
+                    .collect(Collectors.joining(",")));
         }
+        appendPreference(prompt, "활동 수준", request.getActivityLevel());
+        appendPreference(prompt, "날씨", request.getWeatherCondition());
+        appendPreference(prompt, "시간대", request.getTimeOfDay());
+        appendPreference(prompt, "추가 요구사항", request.getAdditionalRequirements());
         if (request.getMaxDistance() != null) {
-            prompt.append("- 최대 이동 거리: ").append(request.getMaxDistance()).append("km\n");
+            appendPreference(prompt, "최대 거리", request.getMaxDistance() + "km");
         }
-        
-        prompt.append("\n**후보 장소 목록** (이 목록에서만 선택하세요):\n");
-        for (int i = 0; i < places.size() && i < 20; i++) {
+
+        prompt.append("\n[후보]\n");
+        for (int i = 0; i < places.size(); i++) {
             Places place = places.get(i);
-            prompt.append(String.format("%d. %s (%s)\n   주소: %s\n   설명: %s\n\n", 
-                    i + 1, place.getName(), place.getCategory(), 
-                    place.getAddress() != null ? place.getAddress() : "주소 없음",
-                    place.getDescription() != null ? place.getDescription() : "설명 없음"));
+            prompt.append('[').append(i + 1).append("] ")
+                    .append(place.getName()).append(" | ")
+                    .append(place.getCategory());
+            if (request.getCurrentLatitude() != null && request.getCurrentLongitude() != null) {
+                double distanceKm = GeoUtils.calculateDistance(
+                        request.getCurrentLatitude().doubleValue(),
+                        request.getCurrentLongitude().doubleValue(),
+                        place.getLatitude().doubleValue(),
+                        place.getLongitude().doubleValue()) / 1000.0;
+                prompt.append(" | ").append(String.format("%.1fkm", distanceKm));
+            }
+            if (place.getDescription() != null && !place.getDescription().isBlank()) {
+                prompt.append(" | ").append(truncate(place.getDescription(), promptDescriptionMaxChars));
+            }
+            prompt.append('\n');
         }
-        
-        prompt.append("\n**응답 형식** (정확히 이 형식으로만 답변하세요):\n");
-        prompt.append("1. [1] [위 목록의 정확한 장소명] - [추천이유]\n");
-        prompt.append("2. [2] [위 목록의 정확한 장소명] - [추천이유]\n");
-        prompt.append("3. [3] [위 목록의 정확한 장소명] - [추천이유]\n");
-        prompt.append("4. [4] [위 목록의 정확한 장소명] - [추천이유]\n");
-        prompt.append("5. [5] [위 목록의 정확한 장소명] - [추천이유]\n");
-        
-        prompt.append("\n**필수 준수사항**:\n");
-        prompt.append("1. 위 후보 목록에 있는 장소만 선택\n");
-        prompt.append("2. 장소명은 목록에 있는 이름과 정확히 일치시킬 것\n");
-        prompt.append("3. 서로 다른 5개 장소 선택 (중복 금지)\n");
-        prompt.append("4. 번호는 [1], [2], [3], [4], [5]로 표시\n");
-        prompt.append("5. 다른 설명이나 추가 텍스트 없이 위 형식만 사용\n");
-        
+
+        prompt.append("\n[응답] 추천 순서대로 JSON 배열: index=후보 번호, name=후보 목록의 장소명 그대로, reason=추천이유\n");
+
         return prompt.toString();
     }
 
-    private String callGeminiForRecommendation(String prompt) {
-        try {
-            var geminiRequest = geminiService.buildGeminiRequestWithImage(prompt, "", "text/plain");
-            var geminiResponse = geminiService.callGeminiApi(geminiRequest);
-            
-            if (geminiResponse.getCandidates() != null && !geminiResponse.getCandidates().isEmpty()) {
-                var candidate = geminiResponse.getCandidates().get(0);
-                if (candidate.getContent() != null && candidate.getContent().getParts() != null 
-                        && !candidate.getContent().getParts().isEmpty()) {
-                    return candidate.getContent().getParts().get(0).getText();
-                }
-            }
-            
-            throw new RuntimeException("Gemini API 응답이 비어있습니다.");
-        } catch (Exception e) {
-            throw new RuntimeException("AI 추천 서비스 호출 중 오류가 발생했습니다.", e);
+    private void appendPreference(StringBuilder prompt, String label, String value) {
+        if (value != null && !value.isBlank()) {
+            prompt.append("- ").append(label).append(": ").append(value.trim()).append('\n');
         }
     }
 
+    private String truncate(String text, int maxChars) {
+        String normalized = text.replaceAll("\\s+", " ").trim();
+        if (normalized.length() <= maxChars) {
+            return normalized;
+        }
+        return normalized.substring(0, Math.max(0, maxChars - 1)) + "…";
+    }
+
+    private CompletableFuture<String> callGeminiForRecommendationAsync(String prompt) {
+        var geminiRequest = geminiService.buildGeminiJsonRequest(prompt, RECOMMENDATION_SCHEMA);
+        return geminiService.callGeminiApiAsync(geminiRequest)
+                .thenApply(geminiResponse -> {
+                    var candidate = geminiResponse.getCandidates().get(0);
+                    if (candidate.getContent() != null && candidate.getContent().getParts() != null
+                            && !candidate.getContent().getParts().isEmpty()) {
+                        return candidate.getContent().getParts().get(0).getText();
+                    }
+                    throw new RuntimeException("Gemini API 응답이 비어있습니다.");
+                });
+    }
+
+    /**
+     * AI 의 JSON 응답을 한 번만 읽으면서 후보 번호(맞지 않으면 장소명)로 장소를 찾음
+     * - 목록에 없거나 이미 선택된 장소는 건너뛰고, 5곳이 안 되면 로컬 순위로 채움
+     */
     private List<PlaceRecommendationResponse.RecommendedPlace> parseAIResponseAndSelectPlaces(
             List<Places> candidatePlaces, String aiResponse, PlaceRecommendationRequest request) {
-        
-        List<PlaceRecommendationResponse.RecommendedPlace> result = new ArrayList<>();
-        List<Long> selectedPlaceIds = new ArrayList<>(); // 중복 방지를 위한 ID 추적
-        String[] lines = aiResponse.split("\n");
-        
-        // AI 응답을 로그로 출력 (디버깅용)
-        System.out.println("AI Response: " + aiResponse);
-        System.out.println("Candidate places count: " + candidatePlaces.size());
-        for (int i = 0; i < candidatePlaces.size(); i++) {
-            System.out.println((i+1) + ". " + candidatePlaces.get(i).getName() + " (ID: " + candidatePlaces.get(i).getId() + ")");
+
+        Map<String, Places> placesByName = new HashMap<>(candidatePlaces.size() * 2);
+        for (Places place : candidatePlaces) {
+            placesByName.putIfAbsent(normalizePlaceName(place.getName()), place);
         }
-        
-        for (String line : lines) {
-            if (line.trim().matches("\\d+\\.\\s*\\[\\d+\\].*")) {
-                System.out.println("Processing line: " + line);
-                String[] parts = line.split("-", 2);
-                if (parts.length >= 2) {
-                    String placePart = parts[0].trim();
-                    String reason = parts[1].trim();
-                    
-                    // [번호] 추출 - 예: "1. [3] 장소명" -> "3"
-                    String extractedNumber = "";
-                    if (placePart.matches(".*\\[\\d+\\].*")) {
-                        extractedNumber = placePart.replaceAll(".*\\[(\\d+)\\].*", "$1");
-                        System.out.println("Extracted number: " + extractedNumber);
-                    }
-                    
-                    Places matchedPlace = null;
-                    
-                    // 1. [번호]로 직접 매칭
-                    if (!extractedNumber.isEmpty()) {
-                        try {
-                            int placeIndex = Integer.parseInt(extractedNumber) - 1;
-                            if (placeIndex >= 0 && placeIndex < candidatePlaces.size()) {
-                                Places candidatePlace = candidatePlaces.get(placeIndex);
-                                if (!selectedPlaceIds.contains(candidatePlace.getId())) {
-                                    matchedPlace = candidatePlace;
-                                    System.out.println("Matched by number: " + matchedPlace.getName());
-                                } else {
-                                    System.out.println("Place already selected (duplicate): " + candidatePlace.getName());
-                                }
-                            } else {
-                                System.out.println("Place index out of bounds: " + placeIndex + " (candidates: " + candidatePlaces.size() + ")");
-                            }
-                        } catch (NumberFormatException e) {
-                            System.out.println("Number parsing failed: " + extractedNumber);
-                        }
-                    }
-                    
-                    // 2. [번호] 뒤의 장소명으로 매칭 시도
-                    if (matchedPlace == null) {
-                        // "1. [3] 장소명" -> "장소명" 추출
-                        String placeName = placePart.replaceAll("\\d+\\.\\s*\\[\\d+\\]\\s*", "").trim();
-                        System.out.println("Trying to match by name: " + placeName);
-                        
-                        final String finalPlaceName = placeName;
-                        matchedPlace = candidatePlaces.stream()
-                                .filter(p -> !selectedPlaceIds.contains(p.getId())) // 중복 체크 먼저
-                                .filter(p -> p.getName().equals(finalPlaceName) || 
-                                           p.getName().contains(finalPlaceName) || 
-                                           finalPlaceName.contains(p.getName()))
-                                .findFirst()
-                                .orElse(null);
-                        
-                        if (matchedPlace != null) {
-                            System.out.println("Matched by name: " + matchedPlace.getName());
-                        }
-                    }
-                    
-                    if (matchedPlace != null) {
-                        double distanceFromUser = 0.0;
-                        if (request.getCurrentLatitude() != null && request.getCurrentLongitude() != null) {
-                            distanceFromUser = calculateDistance(
-                                    request.getCurrentLatitude().doubleValue(),
-                                    request.getCurrentLongitude().doubleValue(),
-                                    matchedPlace.getLatitude().doubleValue(),
-                                    matchedPlace.getLongitude().doubleValue()
-                            ) / 1000.0; // Convert to km
-                        }
-                        
-                        result.add(PlaceRecommendationResponse.RecommendedPlace.builder()
-                                .placeId(matchedPlace.getId())
-                                .name(matchedPlace.getName())
-                                .description(matchedPlace.getDescription())
-                                .latitude(matchedPlace.getLatitude().doubleValue())
-                                .longitude(matchedPlace.getLongitude().doubleValue())
-                                .address(matchedPlace.getAddress())
-                                .imageUrl(matchedPlace.getImageUrl())
-                                .category(matchedPlace.getCategory().toString())
-                                .distanceFromUser(distanceFromUser)
-                                .aiRecommendationReason(reason)
-                                .priority(result.size() + 1)
-                                .build());
-                        
-                        selectedPlaceIds.add(matchedPlace.getId()); // 선택된 장소 ID 추가
-                        System.out.println("Added place: " + matchedPlace.getName() + " (ID: " + matchedPlace.getId() + ")");
-                        
-                        if (result.size() >= 5) {
-                            break;
-                        }
-                    } else {
-                        System.out.println("Could not match place for line: " + line);
+
+        List<PlaceRecommendationResponse.RecommendedPlace> result = new ArrayList<>(RECOMMENDATION_COUNT);
+        Set<Long> selectedPlaceIds = new HashSet<>();
+
+        int arrayStart = aiResponse.indexOf('[');
+        if (arrayStart < 0) {
+            throw new IllegalStateException("AI 추천 응답이 JSON 배열이 아닙니다.");
+        }
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(aiResponse.substring(arrayStart))) {
+            parser.nextToken(); // START_ARRAY
+            while (result.size() < RECOMMENDATION_COUNT && parser.nextToken() == JsonToken.START_OBJECT) {
+                int index = -1;
+                String name = null;
+                String reason = null;
+
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    parser.nextToken();
+                    switch (field) {
+                        case "index" -> index = parser.getValueAsInt(-1);
+                        case "name" -> name = parser.getValueAsString();
+                        case "reason" -> reason = parser.getValueAsString();
+                        default -> parser.skipChildren();
                     }
-                } else {
-                    System.out.println("Could not split line with '-': " + line);
                 }
-            } else {
-                System.out.println("Line doesn't match pattern: " + line);
+
+                Places matchedPlace = index >= 1 && index <= candidatePlaces.size() ? candidatePlaces.get(index - 1) : null;
+                if ((matchedPlace == null || selectedPlaceIds.contains(matchedPlace.getId())) && name != null) {
+                    matchedPlace = placesByName.get(normalizePlaceName(name));
+                }
+
+                if (matchedPlace != null && selectedPlaceIds.add(matchedPlace.getId())) {
+                    result.add(toRecommendedPlace(matchedPlace, request,
+                            reason != null ? reason : FALLBACK_RECOMMENDATION_REASON, result.size() + 1));
+                }
             }
+        } catch (IOException e) {
+            throw new UncheckedIOException("AI 추천 응답을 읽지 못했습니다.", e);
         }
-        
-        System.out.println("AI matched places count: " + result.size());
-        
-        // 부족한 경우 폴백으로 채우기
-        if (result.size() < 5) {
-            System.out.println("Adding fallback recommendations...");
-            for (Places place : candidatePlaces) {
-                if (!selectedPlaceIds.contains(place.getId()) && result.size() < 5) {
-                    double distanceFromUser = 0.0;
-                    if (request.getCurrentLatitude() != null && request.getCurrentLongitude() != null) {
-                        distanceFromUser = calculateDistance(
-                                request.getCurrentLatitude().doubleValue(),
-                                request.getCurrentLongitude().doubleValue(),
-                                place.getLatitude().doubleValue(),
-                                place.getLongitude().doubleValue()
-                        ) / 1000.0;
-                    }
-                    
-                    result.add(PlaceRecommendationResponse.RecommendedPlace.builder()
-                            .placeId(place.getId())
-                            .name(place.getName())
-                            .description(place.getDescription())
-                            .latitude(place.getLatitude().doubleValue())
-                            .longitude(place.getLongitude().doubleValue())
-                            .address(place.getAddress())
-                            .imageUrl(place.getImageUrl())
-                            .category(place.getCategory().toString())
-                            .distanceFromUser(distanceFromUser)
-                            .aiRecommendationReason("시스템이 선별한 추천 장소입니다.")
-                            .priority(result.size() + 1)
-                            .build());
-                    
-                    selectedPlaceIds.add(place.getId());
-                    System.out.println("Added fallback place: " + place.getName() + " (ID: " + place.getId() + ")");
-                }
+
+        // 부족한 경우 로컬 순위로 채우기
+        for (Places place : candidatePlaces) {
+            if (result.size() >= RECOMMENDATION_COUNT) {
+                break;
+            }
+            if (selectedPlaceIds.add(place.getId())) {
+                result.add(toRecommendedPlace(place, request, FALLBACK_RECOMMENDATION_REASON, result.size() + 1));
             }
         }
-        
-        System.out.println("Final result count: " + result.size());
         return result;
     }
 
     private List<PlaceRecommendationResponse.RecommendedPlace> getFallbackRecommendations(
             List<Places> candidatePlaces, PlaceRecommendationRequest request) {
-        
-        List<PlaceRecommendationResponse.RecommendedPlace> fallbackPlaces = candidatePlaces.stream()
-                .limit(5)
-                .map(place -> {
-                    double distanceFromUser = 0.0;
-                    if (request.getCurrentLatitude() != null && request.getCurrentLongitude() != null) {
-                        distanceFromUser = calculateDistance(
-                                request.getCurrentLatitude().doubleValue(),
-                                request.getCurrentLongitude().doubleValue(),
-                                place.getLatitude().doubleValue(),
-                                place.getLongitude().doubleValue()
-                        ) / 1000.0;
-                    }
-                    
-                    return PlaceRecommendationResponse.RecommendedPlace.builder()
-                            .placeId(place.getId())
-                            .name(place.getName())
-                            .description(place.getDescription())
-                            .latitude(place.getLatitude().doubleValue())
-                            .longitude(place.getLongitude().doubleValue())
-                            .address(place.getAddress())
-                            .imageUrl(place.getImageUrl())
-                            .category(place.getCategory().toString())
-                            .distanceFromUser(distanceFromUser)
-                            .aiRecommendationReason("시스템이 선별한 추천 장소입니다.")
-                            .priority(candidatePlaces.indexOf(place) + 1)
-                            .build();
-                })
-                .collect(Collectors.toList());
-        
+
+        int count = Math.min(RECOMMENDATION_COUNT, candidatePlaces.size());
+        List<PlaceRecommendationResponse.RecommendedPlace> fallbackPlaces = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            fallbackPlaces.add(toRecommendedPlace(candidatePlaces.get(i), request, FALLBACK_RECOMMENDATION_REASON, i + 1));
+        }
         return fallbackPlaces;
     }
 
+    private PlaceRecommendationResponse.RecommendedPlace toRecommendedPlace(Places place, PlaceRecommendationRequest request,
+                                                                            String reason, int priority) {
+        double distanceFromUser = 0.0;
+        if (request.getCurrentLatitude() != null && request.getCurrentLongitude() != null) {
+            distanceFromUser = GeoUtils.calculateDistance(
+                    request.getCurrentLatitude().doubleValue(),
+                    request.getCurrentLongitude().doubleValue(),
+                    place.getLatitude().doubleValue(),
+                    place.getLongitude().doubleValue()
+            ) / 1000.0; // Convert to km
+        }
+
+        return PlaceRecommendationResponse.RecommendedPlace.builder()
+                .placeId(place.getId())
+                .name(place.getName())
+                .description(place.getDescription())
+                .latitude(place.getLatitude().doubleValue())
+                .longitude(place.getLongitude().doubleValue())
+                .address(place.getAddress())
+                .imageUrl(place.getImageUrl())
+                .category(place.getCategory().toString())
+                .distanceFromUser(distanceFromUser)
+                .aiRecommendationReason(reason)
+                .priority(priority)
+                .build();
+    }
+
+    // 공백/대소문자 차이는 같은 이름으로 취급
+    private String normalizePlaceName(String name) {
+        StringBuilder normalized = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
     private String generateOverallRecommendationReason(PlaceRecommendationRequest request, 
             List<PlaceRecommendationResponse.RecommendedPlace> places) {
         StringBuilder reason = new StringBuilder();
@@ -0,0 +1,49 @@
+package com.example.color_walk.service;
+
+import com.example.color_walk.common.util.GpsRingBuffer;
+import com.example.color_walk.domain.Walk;
+import com.example.color_walk.domain.WalkingPoint;
+import com.example.color_walk.repository.WalkRepository;
+import com.example.color_walk.repository.WalkingPointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 버퍼에 모인 GPS 포인트를 배치 저장
+ * - 호출하는 쪽은 트랜잭션 밖에서 호출 (요청 트랜잭션 안에서 새 트랜잭션을 열면 커넥션을 두 개 잡게 됨)
+ */
+@Component
+@RequiredArgsConstructor
+public class WalkingPointWriter {
+
+    private final WalkRepository walkRepository;
+    private final WalkingPointRepository walkingPointRepository;
+
+    @Transactional
+    public void write(Long walkId, GpsRingBuffer.Snapshot snapshot,
+                      double totalDistance, Double lastLatitude, Double lastLongitude) {
+        Walk walk = walkRepository.getReferenceById(walkId);
+
+        List<WalkingPoint> walkingPoints = new ArrayList<>(snapshot.size());
+        for (int i = 0; i < snapshot.size(); i++) {
+            walkingPoints.add(WalkingPoint.builder()
+                    .walk(walk)
+                    .latitude(snapshot.getLatitudes()[i])
+                    .longitude(snapshot.getLongitudes()[i])
+                    .timestamp(LocalDateTime.ofInstant(
+                            Instant.ofEpochMilli(snapshot.getEpochMillis()[i]), ZoneId.systemDefault()))
+                    .sequence(snapshot.getSequences()[i])
+                    .build());
+        }
+
+        walkingPointRepository.saveAll(walkingPoints);
+        walkRepository.updateTrack(walkId, totalDistance, lastLatitude, lastLongitude, walkingPoints.size());
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.color_walk.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncBulkheadTest {
+
+    @Test
+    void startsUpToMaxConcurrentAndQueuesTheRest() {
+        AsyncBulkhead bulkhead = new AsyncBulkhead(2, 1, 60_000);
+        CompletableFuture<String> first = new CompletableFuture<>();
+        CompletableFuture<String> second = new CompletableFuture<>();
+        AtomicInteger started = new AtomicInteger();
+
+        CompletableFuture<String> a = bulkhead.submit(() -> {
+            started.incrementAndGet();
+            return first;
+        });
+        CompletableFuture<String> b = bulkhead.submit(() -> {
+            started.incrementAndGet();
+            return second;
+        });
+        CompletableFuture<String> c = bulkhead.submit(() -> {
+            started.incrementAndGet();
+            return CompletableFuture.completedFuture("c");
+        });
+
+        assertThat(started.get()).isEqualTo(2);
+        assertThat(bulkhead.getInFlight()).isEqualTo(2);
+        assertThat(bulkhead.getQueued()).isEqualTo(1);
+
+        // 앞선 작업이 끝나면 대기 중인 작업이 바로 시작
+        first.complete("a");
+
+        assertThat(a.join()).isEqualTo("a");
+        assertThat(c.join()).isEqualTo("c");
+        assertThat(started.get()).isEqualTo(3);
+        assertThat(b.isDone()).isFalse();
+
+        second.complete("b");
+        assertThat(b.join()).isEqualTo("b");
+        assertThat(bulkhead.getInFlight()).isZero();
+        assertThat(bulkhead.getQueued()).isZero();
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() {
+        AsyncBulkhead bulkhead = new AsyncBulkhead(1, 1, 60_000);
+        bulkhead.submit(CompletableFuture::new);
+        bulkhead.submit(CompletableFuture::new);
+
+        CompletableFuture<Object> rejected = bulkhead.submit(CompletableFuture::new);
+
+        assertThat(rejected.isCompletedExceptionally()).isTrue();
+        assertThatThrownBy(rejected::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void expiresQueuedTaskAfterMaxWait() throws Exception {
+        AsyncBulkhead bulkhead = new AsyncBulkhead(1, 1, 50);
+        CompletableFuture<String> running = new CompletableFuture<>();
+        AtomicInteger started = new AtomicInteger();
+        bulkhead.submit(() -> running);
+
+        CompletableFuture<String> queued = bulkhead.submit(() -> {
+            started.incrementAndGet();
+            return CompletableFuture.completedFuture("late");
+        });
+
+        assertThatThrownBy(() -> queued.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(bulkhead.getQueued()).isZero();
+
+        // 만료된 작업은 자리가 나도 시작하지 않음
+        running.complete("done");
+        assertThat(started.get()).isZero();
+        assertThat(bulkhead.getInFlight()).isZero();
+    }
+
+    @Test
+    void releasesSlotWhenTaskFailsOrThrows() {
+        AsyncBulkhead bulkhead = new AsyncBulkhead(1, 0, 60_000);
+
+        CompletableFuture<Object> failed = bulkhead.submit(
+                () -> CompletableFuture.failedFuture(new IllegalStateException("boom")));
+        CompletableFuture<Object> thrown = bulkhead.submit(() -> {
+            throw new IllegalStateException("boom");
+        });
+
+        assertThatThrownBy(failed::join).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(thrown::join).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(bulkhead.getInFlight()).isZero();
+        assertThat(bulkhead.submit(() -> CompletableFuture.completedFuture("ok")).join()).isEqualTo("ok");
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.color_walk.common.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExifUtilsTest {
+
+    @Test
+    void extractsGpsCoordinates() throws IOException {
+        // 37° 34' 15.3" N, 127° 0' 36" E
+        byte[] image = withGps(jpeg(), new long[]{37, 1, 34, 1, 1530, 100}, new long[]{127, 1, 0, 1, 3600, 100});
+
+        ExifUtils.LocationInfo location = ExifUtils.extractLocationFromImage(
+                new MockMultipartFile("image", "gps.jpg", "image/jpeg", image));
+
+        assertThat(location.hasLocation()).isTrue();
+        assertThat(location.getLatitude()).isEqualByComparingTo(new BigDecimal("37.57091667"));
+        assertThat(location.getLongitude()).isEqualByComparingTo(new BigDecimal("127.01000000"));
+    }
+
+    @Test
+    void returnsEmptyLocationWithoutGps() throws IOException {
+        ExifUtils.LocationInfo location = ExifUtils.extractLocationFromImage(
+                new MockMultipartFile("image", "plain.jpg", "image/jpeg", jpeg()));
+
+        assertThat(location.hasLocation()).isFalse();
+    }
+
+    @Test
+    void returnsEmptyLocationForUnreadableFile() {
+        ExifUtils.LocationInfo location = ExifUtils.extractLocationFromImage(
+                new MockMultipartFile("image", "broken.jpg", "image/jpeg", new byte[]{1, 2, 3}));
+
+        assertThat(location.hasLocation()).isFalse();
+    }
+
+    private byte[] jpeg() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(16, 16, BufferedImage.TYPE_INT_RGB), "jpg", out);
+        return out.toByteArray();
+    }
+
+    /**
+     * JFIF(APP0) 세그먼트 뒤에 GPS IFD 만 담은 EXIF(APP1) 세그먼트 삽입
+     * - 위도/경도는 도, 분, 초 순서의 (분자, 분모) 쌍
+     */
+    private byte[] withGps(byte[] jpeg, long[] latitude, long[] longitude) {
+        // TIFF 오프셋: IFD0 = 8, GPS IFD = 26, 위도 값 = 80, 경도 값 = 104
+        ByteBuffer tiff = ByteBuffer.allocate(128);
+        tiff.put(new byte[]{'M', 'M', 0, 42}).putInt(8);
+        tiff.putShort((short) 1);
+        tiff.putShort((short) 0x8825).putShort((short) 4).putInt(1).putInt(26); // GPSInfo IFD 포인터
+        tiff.putInt(0);
+
+        tiff.putShort((short) 4);
+        tiff.putShort((short) 0x0001).putShort((short) 2).putInt(2).put(new byte[]{'N', 0, 0, 0});
+        tiff.putShort((short) 0x0002).putShort((short) 5).putInt(3).putInt(80);
+        tiff.putShort((short) 0x0003).putShort((short) 2).putInt(2).put(new byte[]{'E', 0, 0, 0});
+        tiff.putShort((short) 0x0004).putShort((short) 5).putInt(3).putInt(104);
+        tiff.putInt(0);
+
+        for (long value : latitude) {
+            tiff.putInt((int) value);
+        }
+        for (long value : longitude) {
+            tiff.putInt((int) value);
+        }
+
+        byte[] header = {'E', 'x', 'i', 'f', 0, 0};
+        int app0End = 4 + (((jpeg[4] & 0xFF) << 8) | (jpeg[5] & 0xFF));
+        int segmentLength = header.length + tiff.position() + 2;
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(jpeg.length + segmentLength + 2);
+        out.write(jpeg, 0, app0End);
+        out.write(0xFF);
+        out.write(0xE1);
+        out.write(segmentLength >> 8);
+        out.write(segmentLength & 0xFF);
+        out.write(header, 0, header.length);
+        out.write(tiff.array(), 0, tiff.position());
+        out.write(jpeg, app0End, jpeg.length - app0End);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.color_walk.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GeoKdTreeTest {
+
+    private static final Random RANDOM = new Random(42);
+
+    @Test
+    void findNearestMatchesBruteForce() {
+        List<double[]> points = randomPoints(2_000, 37.4, 37.7, 126.8, 127.2);
+        GeoKdTree<double[]> tree = new GeoKdTree<>(points, p -> p[0], p -> p[1]);
+
+        for (int query = 0; query < 50; query++) {
+            double latitude = 37.4 + RANDOM.nextDouble() * 0.3;
+            double longitude = 126.8 + RANDOM.nextDouble() * 0.4;
+
+            List<GeoKdTree.Neighbor<double[]>> nearest = tree.findNearest(latitude, longitude, 5, null);
+            List<double[]> expected = bruteForceNearest(points, latitude, longitude, 5);
+
+            assertThat(nearest).hasSize(5);
+            for (int i = 0; i < 5; i++) {
+                assertThat(nearest.get(i).getItem()).isSameAs(expected.get(i));
+                assertThat(nearest.get(i).getDistanceMeters())
+                        .isCloseTo(distance(expected.get(i), latitude, longitude), within(0.01));
+            }
+        }
+    }
+
+    @Test
+    void findNearestAppliesFilter() {
+        List<double[]> points = randomPoints(500, 37.4, 37.7, 126.8, 127.2);
+        GeoKdTree<double[]> tree = new GeoKdTree<>(points, p -> p[0], p -> p[1]);
+
+        List<GeoKdTree.Neighbor<double[]>> nearest = tree.findNearest(37.55, 127.0, 10, p -> p[0] > 37.6);
+
+        assertThat(nearest).hasSize(10);
+        for (GeoKdTree.Neighbor<double[]> neighbor : nearest) {
+            assertThat(neighbor.getItem()[0]).isGreaterThan(37.6);
+        }
+    }
+
+    @Test
+    void findWithinRadiusMatchesBruteForce() {
+        List<double[]> points = randomPoints(2_000, 37.4, 37.7, 126.8, 127.2);
+        GeoKdTree<double[]> tree = new GeoKdTree<>(points, p -> p[0], p -> p[1]);
+
+        List<GeoKdTree.Neighbor<double[]>> neighbors = tree.findWithinRadius(37.55, 127.0, 2_000);
+
+        long expected = points.stream().filter(p -> distance(p, 37.55, 127.0) <= 2_000).count();
+        assertThat(neighbors).hasSize((int) expected);
+        for (int i = 1; i < neighbors.size(); i++) {
+            assertThat(neighbors.get(i).getDistanceMeters())
+                    .isGreaterThanOrEqualTo(neighbors.get(i - 1).getDistanceMeters());
+        }
+    }
+
+    @Test
+    void findsNeighborsAcrossAntimeridian() {
+        double[] west = {0.0, 179.999};
+        double[] east = {0.0, -179.999};
+        double[] far = {0.0, 170.0};
+        GeoKdTree<double[]> tree = new GeoKdTree<>(List.of(west, east, far), p -> p[0], p -> p[1]);
+
+        List<GeoKdTree.Neighbor<double[]>> nearest = tree.findNearest(0.0, 179.9995, 2, null);
+
+        assertThat(nearest).hasSize(2);
+        assertThat(nearest.get(0).getItem()).isSameAs(west);
+        assertThat(nearest.get(1).getItem()).isSameAs(east);
+    }
+
+    @Test
+    void handlesEmptyTreeAndNonPositiveK() {
+        GeoKdTree<double[]> empty = new GeoKdTree<>(List.of(), p -> p[0], p -> p[1]);
+        GeoKdTree<double[]> single = new GeoKdTree<>(List.<double[]>of(new double[]{37.5, 127.0}), p -> p[0], p -> p[1]);
+
+        assertThat(empty.findNearest(37.5, 127.0, 3, null)).isEmpty();
+        assertThat(empty.findWithinRadius(37.5, 127.0, 1_000)).isEmpty();
+        assertThat(single.findNearest(37.5, 127.0, 0, null)).isEmpty();
+        assertThat(single.findNearest(37.5, 127.0, 3, null)).hasSize(1);
+    }
+
+    private List<double[]> randomPoints(int count, double minLat, double maxLat, double minLon, double maxLon) {
+        List<double[]> points = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            points.add(new double[]{
+                    minLat + RANDOM.nextDouble() * (maxLat - minLat),
+                    minLon + RANDOM.nextDouble() * (maxLon - minLon)});
+        }
+        return points;
+    }
+
+    private List<double[]> bruteForceNearest(List<double[]> points, double latitude, double longitude, int k) {
+        return points.stream()
+                .sorted(Comparator.comparingDouble(p -> distance(p, latitude, longitude)))
+                .limit(k)
+                .toList();
+    }
+
+    private double distance(double[] point, double latitude, double longitude) {
+        return GeoUtils.calculateDistance(latitude, longitude, point[0], point[1]);
+    }
+}
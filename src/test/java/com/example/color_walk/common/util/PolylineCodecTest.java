@@ -0,0 +1,68 @@
+package com.example.color_walk.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class PolylineCodecTest {
+
+    @Test
+    void encodesGoogleReferenceExample() {
+        // https://developers.google.com/maps/documentation/utilities/polylinealgorithm 의 예시
+        String encoded = PolylineCodec.encodeCoordinates(
+                new double[]{38.5, 40.7, 43.252},
+                new double[]{-120.2, -120.95, -126.453});
+
+        assertThat(encoded).isEqualTo("_p~iF~ps|U_ulLnnqC_mqNvxq`@");
+    }
+
+    @Test
+    void decodesCoordinatesWithFivePlacePrecision() {
+        double[] latitudes = {37.566535, 37.566612, 37.567001, 37.565420, -33.868820};
+        double[] longitudes = {126.977969, 126.978123, 126.979500, 126.975001, 151.209296};
+
+        PolylineCodec.Coordinates decoded = PolylineCodec.decodeCoordinates(
+                PolylineCodec.encodeCoordinates(latitudes, longitudes));
+
+        assertThat(decoded.size()).isEqualTo(latitudes.length);
+        for (int i = 0; i < latitudes.length; i++) {
+            assertThat(decoded.getLatitudes()[i]).isCloseTo(latitudes[i], within(0.00001));
+            assertThat(decoded.getLongitudes()[i]).isCloseTo(longitudes[i], within(0.00001));
+        }
+    }
+
+    @Test
+    void roundTripsValuesIncludingNegativeDeltas() {
+        long[] epochSeconds = {1_760_000_000L, 1_760_000_001L, 1_760_000_031L, 1_759_999_990L, 0L, -5L};
+
+        long[] decoded = PolylineCodec.decodeValues(PolylineCodec.encodeValues(epochSeconds));
+
+        assertThat(decoded).containsExactly(epochSeconds);
+    }
+
+    @Test
+    void decodesLongTracksBeyondInitialCapacity() {
+        int size = 5_000;
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        for (int i = 0; i < size; i++) {
+            latitudes[i] = 37.5 + i * 0.00001;
+            longitudes[i] = 127.0 - i * 0.00002;
+        }
+
+        PolylineCodec.Coordinates decoded = PolylineCodec.decodeCoordinates(
+                PolylineCodec.encodeCoordinates(latitudes, longitudes));
+
+        assertThat(decoded.size()).isEqualTo(size);
+        assertThat(decoded.getLatitudes()[size - 1]).isCloseTo(latitudes[size - 1], within(0.00001));
+        assertThat(decoded.getLongitudes()[size - 1]).isCloseTo(longitudes[size - 1], within(0.00001));
+    }
+
+    @Test
+    void handlesEmptyInput() {
+        assertThat(PolylineCodec.encodeCoordinates(new double[0], new double[0])).isEmpty();
+        assertThat(PolylineCodec.decodeCoordinates("").size()).isZero();
+        assertThat(PolylineCodec.decodeValues("")).isEmpty();
+    }
+}
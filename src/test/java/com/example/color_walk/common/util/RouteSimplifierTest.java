@@ -0,0 +1,71 @@
+package com.example.color_walk.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RouteSimplifierTest {
+
+    @Test
+    void collapsesStraightLineToEndpoints() {
+        double[] latitudes = new double[50];
+        double[] longitudes = new double[50];
+        for (int i = 0; i < latitudes.length; i++) {
+            latitudes[i] = 37.5 + i * 0.0001;
+            longitudes[i] = 127.0;
+        }
+
+        assertThat(RouteSimplifier.simplify(latitudes, longitudes, 1.0)).containsExactly(0, 49);
+    }
+
+    @Test
+    void keepsCornerBeyondTolerance() {
+        // 북쪽으로 약 111m 간 뒤 동쪽으로 약 88m
+        double[] latitudes = {37.5, 37.5005, 37.501, 37.501, 37.501};
+        double[] longitudes = {127.0, 127.0, 127.0, 127.0005, 127.001};
+
+        assertThat(RouteSimplifier.simplify(latitudes, longitudes, 5.0)).containsExactly(0, 2, 4);
+    }
+
+    @Test
+    void dropsJitterWithinTolerance() {
+        // 경로에서 약 1m 벗어난 지점은 허용 오차 5m 안이므로 제거
+        double[] latitudes = {37.5, 37.5005, 37.501};
+        double[] longitudes = {127.0, 127.00001, 127.0};
+
+        assertThat(RouteSimplifier.simplify(latitudes, longitudes, 5.0)).containsExactly(0, 2);
+        assertThat(RouteSimplifier.simplify(latitudes, longitudes, 0.5)).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    void keepsAllPointsForNonPositiveOrNaNTolerance() {
+        double[] latitudes = {37.5, 37.5005, 37.501};
+        double[] longitudes = {127.0, 127.0, 127.0};
+
+        assertThat(RouteSimplifier.simplify(latitudes, longitudes, 0.0)).containsExactly(0, 1, 2);
+        assertThat(RouteSimplifier.simplify(latitudes, longitudes, -3.0)).containsExactly(0, 1, 2);
+        assertThat(RouteSimplifier.simplify(latitudes, longitudes, Double.NaN)).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    void returnsShortRoutesAsIs() {
+        assertThat(RouteSimplifier.simplify(new double[0], new double[0], 5.0)).isEmpty();
+        assertThat(RouteSimplifier.simplify(new double[]{37.5}, new double[]{127.0}, 5.0)).containsExactly(0);
+        assertThat(RouteSimplifier.simplify(new double[]{37.5, 37.6}, new double[]{127.0, 127.1}, 5.0))
+                .containsExactly(0, 1);
+    }
+
+    @Test
+    void keepsEveryVertexOfZigzagRoute() {
+        int size = 2_000;
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        for (int i = 0; i < size; i++) {
+            // 매 지점이 꼭짓점인 지그재그 경로 (구간이 한쪽으로 치우쳐 나뉘므로 스택 방식이어야 안전)
+            latitudes[i] = 37.5 + i * 0.0001;
+            longitudes[i] = 127.0 + (i % 2) * 0.001;
+        }
+
+        assertThat(RouteSimplifier.simplify(latitudes, longitudes, 1.0)).hasSize(size);
+    }
+}
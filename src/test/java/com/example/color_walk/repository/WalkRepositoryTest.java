@@ -0,0 +1,119 @@
+package com.example.color_walk.repository;
+
+import com.example.color_walk.domain.Color;
+import com.example.color_walk.domain.Member;
+import com.example.color_walk.domain.Photo;
+import com.example.color_walk.domain.Walk;
+import com.example.color_walk.domain.WalkingPoint;
+import com.example.color_walk.dto.response.WalkResponse;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 운영과 같은 MySQL 에서 쿼리 수를 확인 (Docker 가 없으면 건너뜀)
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class WalkRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private WalkRepository walkRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void inProgressWalkDetailLoadsInTwoQueries() {
+        Long walkId = persistWalk(null);
+
+        Walk walk = walkRepository.findDetailById(walkId).orElseThrow();
+        walkRepository.fetchWalkingPointsById(walkId);
+        WalkResponse response = WalkResponse.convertToWalkResponse(walk);
+
+        assertThat(response.getWalkingPoints()).hasSize(3);
+        assertThat(response.getPhotos()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void finishedWalkDetailLoadsInOneQuery() {
+        // 37.5,127.0 -> 37.501,127.0 두 지점의 encoded polyline
+        Long walkId = persistWalk("_f{cF_ucfWgE?");
+
+        Walk walk = walkRepository.findDetailById(walkId).orElseThrow();
+        WalkResponse response = WalkResponse.convertToWalkResponse(walk);
+
+        assertThat(response.getWalkingPoints()).hasSize(2);
+        assertThat(response.getPhotos()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private Long persistWalk(String encodedRoute) {
+        String suffix = UUID.randomUUID().toString();
+        Member member = entityManager.persist(Member.builder()
+                .username("walker-" + suffix)
+                .password("password")
+                .email(suffix + "@colorwalk.test")
+                .build());
+
+        Walk walk = entityManager.persist(Walk.builder()
+                .member(member)
+                .title("쿼리 수 테스트 산책")
+                .colorTheme(Color.GREEN)
+                .startTime(LocalDateTime.now())
+                .totalDistance(0.0)
+                .encodedRoute(encodedRoute)
+                .build());
+
+        for (int i = 1; i <= 3; i++) {
+            entityManager.persist(WalkingPoint.builder()
+                    .walk(walk)
+                    .latitude(37.5 + i * 0.001)
+                    .longitude(127.0)
+                    .timestamp(LocalDateTime.now())
+                    .sequence(i)
+                    .build());
+        }
+        for (int i = 1; i <= 2; i++) {
+            entityManager.persist(Photo.builder()
+                    .walk(walk)
+                    .s3Url("https://color-walk.s3.ap-northeast-2.amazonaws.com/photos/" + i + ".jpg")
+                    .displayOrder(i)
+                    .build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        return walk.getId();
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.color_walk.service;
+
+import com.example.color_walk.common.exception.PointStorageUnavailableException;
+import com.example.color_walk.common.util.GpsRingBuffer;
+import com.example.color_walk.domain.Walk;
+import com.example.color_walk.dto.request.WalkingPointBatchRequest;
+import com.example.color_walk.repository.WalkRepository;
+import com.example.color_walk.repository.WalkingPointRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ActiveWalkRegistryTest {
+
+    private static final Long WALK_ID = 1L;
+
+    private WalkRepository walkRepository;
+    private WalkingPointRepository walkingPointRepository;
+    private WalkingPointWriter walkingPointWriter;
+    private ActiveWalkRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        walkRepository = mock(WalkRepository.class);
+        walkingPointRepository = mock(WalkingPointRepository.class);
+        walkingPointWriter = mock(WalkingPointWriter.class);
+
+        when(walkRepository.findById(WALK_ID)).thenReturn(Optional.of(Walk.builder().totalDistance(0.0).build()));
+        when(walkingPointRepository.findMaxSequenceByWalkId(WALK_ID)).thenReturn(0);
+
+        // 버퍼 4개, 3개마다 저장, 유휴 정리 없음
+        registry = new ActiveWalkRegistry(walkRepository, walkingPointRepository, walkingPointWriter,
+                new WalkSequenceAllocator(walkingPointRepository), 4, 3, Long.MAX_VALUE);
+    }
+
+    @Test
+    void writesOnceFlushSizeIsReached() {
+        LocalDateTime now = LocalDateTime.now();
+        registry.append(WALK_ID, 37.5000, 127.0, now);
+        registry.append(WALK_ID, 37.5001, 127.0, now.plusSeconds(1));
+
+        verify(walkingPointWriter, never()).write(anyLong(), any(), anyDouble(), any(), any());
+
+        registry.append(WALK_ID, 37.5002, 127.0, now.plusSeconds(2));
+
+        GpsRingBuffer.Snapshot snapshot = captureWrites(1).get(0);
+        assertThat(snapshot.size()).isEqualTo(3);
+        assertThat(snapshot.getSequences()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void keepsFailedSnapshotForNextFlush() {
+        doThrow(new TransientDataAccessResourceException("connection reset"))
+                .doNothing()
+                .when(walkingPointWriter).write(anyLong(), any(), anyDouble(), any(), any());
+
+        LocalDateTime now = LocalDateTime.now();
+        registry.append(WALK_ID, 37.5000, 127.0, now);
+        registry.append(WALK_ID, 37.5001, 127.0, now.plusSeconds(1));
+
+        assertThatThrownBy(() -> registry.flush(WALK_ID)).isInstanceOf(TransientDataAccessResourceException.class);
+        registry.flush(WALK_ID);
+        registry.flush(WALK_ID);
+
+        List<GpsRingBuffer.Snapshot> writes = captureWrites(2);
+        assertThat(writes.get(1).getSequences()).containsExactly(1, 2);
+    }
+
+    @Test
+    void rejectsAppendsOnceBufferIsFullAndWritesFail() {
+        doThrow(new TransientDataAccessResourceException("connection reset"))
+                .when(walkingPointWriter).write(anyLong(), any(), anyDouble(), any(), any());
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 4; i++) {
+            double latitude = 37.5 + i * 0.0001;
+            LocalDateTime timestamp = now.plusSeconds(i);
+            assertThatCode(() -> registry.append(WALK_ID, latitude, 127.0, timestamp)).doesNotThrowAnyException();
+        }
+
+        assertThatThrownBy(() -> registry.append(WALK_ID, 37.6, 127.0, now.plusSeconds(4)))
+                .isInstanceOf(PointStorageUnavailableException.class);
+    }
+
+    @Test
+    void rejectsBatchThatDoesNotFitBehindUnwrittenPoints() {
+        doThrow(new TransientDataAccessResourceException("connection reset"))
+                .doNothing()
+                .when(walkingPointWriter).write(anyLong(), any(), anyDouble(), any(), any());
+
+        LocalDateTime now = LocalDateTime.now();
+        registry.append(WALK_ID, 37.5000, 127.0, now);
+        registry.append(WALK_ID, 37.5001, 127.0, now.plusSeconds(1));
+        List<WalkingPointBatchRequest.Point> points = List.of(
+                point(37.5002, 127.0, now.plusSeconds(2)),
+                point(37.5003, 127.0, now.plusSeconds(3)),
+                point(37.5004, 127.0, now.plusSeconds(4)));
+
+        assertThatThrownBy(() -> registry.appendBatch(WALK_ID, points, now))
+                .isInstanceOf(PointStorageUnavailableException.class);
+
+        // 거절된 배치의 포인트는 버퍼에 하나도 들어가지 않음
+        registry.flush(WALK_ID);
+        assertThat(captureWrites(2).get(1).getSequences()).containsExactly(1, 2);
+    }
+
+    @Test
+    void discardsOnlyAlreadyPersistedPointsOnDuplicateSequence() {
+        doThrow(new DataIntegrityViolationException(
+                "Duplicate entry '1-2' for key 'walking_point.uk_walking_point_walk_sequence'"))
+                .doNothing()
+                .when(walkingPointWriter).write(anyLong(), any(), anyDouble(), any(), any());
+        // 앞선 저장이 2번 순번까지 커밋된 상태
+        when(walkingPointRepository.findMaxSequenceByWalkId(WALK_ID)).thenReturn(0, 2);
+
+        LocalDateTime now = LocalDateTime.now();
+        registry.append(WALK_ID, 37.5000, 127.0, now);
+        registry.append(WALK_ID, 37.5001, 127.0, now.plusSeconds(1));
+        registry.append(WALK_ID, 37.5002, 127.0, now.plusSeconds(2));
+        registry.flush(WALK_ID);
+
+        List<GpsRingBuffer.Snapshot> writes = captureWrites(2);
+        assertThat(writes.get(0).getSequences()).containsExactly(1, 2, 3);
+        assertThat(writes.get(1).getSequences()).containsExactly(3);
+    }
+
+    @Test
+    void accumulatesDistanceOnlyForWrittenPoints() {
+        doThrow(new TransientDataAccessResourceException("connection reset"))
+                .doNothing()
+                .when(walkingPointWriter).write(anyLong(), any(), anyDouble(), any(), any());
+
+        LocalDateTime now = LocalDateTime.now();
+        registry.append(WALK_ID, 37.5000, 127.0, now);
+        registry.append(WALK_ID, 37.5010, 127.0, now.plusSeconds(10));
+        assertThatThrownBy(() -> registry.flush(WALK_ID)).isInstanceOf(TransientDataAccessResourceException.class);
+
+        registry.append(WALK_ID, 37.5020, 127.0, now.plusSeconds(20));
+        registry.flush(WALK_ID);
+
+        // 실패한 시도의 거리가 먼저 더해지지 않고 실제로 저장된 두 구간만 반영 (위도 0.001도 ≈ 111m)
+        ArgumentCaptor<Double> totalDistance = ArgumentCaptor.forClass(Double.class);
+        verify(walkingPointWriter, times(2)).write(eq(WALK_ID), any(), totalDistance.capture(), any(), any());
+        assertThat(totalDistance.getAllValues().get(0)).isBetween(110.0, 112.0);
+        assertThat(totalDistance.getAllValues().get(1)).isBetween(220.0, 224.0);
+    }
+
+    @Test
+    void keepsSnapshotOnOtherConstraintViolation() {
+        doThrow(new DataIntegrityViolationException("Duplicate entry '7' for key 'walking_point.PRIMARY'"))
+                .doNothing()
+                .when(walkingPointWriter).write(anyLong(), any(), anyDouble(), any(), any());
+
+        registry.append(WALK_ID, 37.5, 127.0, LocalDateTime.now());
+
+        assertThatThrownBy(() -> registry.flush(WALK_ID)).isInstanceOf(DataIntegrityViolationException.class);
+        registry.flush(WALK_ID);
+
+        assertThat(captureWrites(2).get(1).getSequences()).containsExactly(1);
+    }
+
+    @Test
+    void closeFailsAndKeepsPointsWhenWriteFails() {
+        doThrow(new TransientDataAccessResourceException("connection reset"))
+                .doNothing()
+                .when(walkingPointWriter).write(anyLong(), any(), anyDouble(), any(), any());
+
+        registry.append(WALK_ID, 37.5, 127.0, LocalDateTime.now());
+
+        assertThatThrownBy(() -> registry.close(WALK_ID)).isInstanceOf(PointStorageUnavailableException.class);
+
+        // 세션이 남아 있어 다음 종료 시도에서 같은 포인트를 저장
+        assertThatCode(() -> registry.close(WALK_ID)).doesNotThrowAnyException();
+        assertThat(captureWrites(2).get(1).getSequences()).containsExactly(1);
+
+        registry.flushAll();
+        verify(walkingPointWriter, times(2)).write(anyLong(), any(), anyDouble(), any(), any());
+    }
+
+    @Test
+    void retriedBatchIsNotCountedTwice() {
+        LocalDateTime start = LocalDateTime.now();
+        List<WalkingPointBatchRequest.Point> points = List.of(
+                point(37.5000, 127.0, start),
+                point(37.5010, 127.0, start.plusSeconds(10)));
+
+        registry.appendBatch(WALK_ID, points, start);
+        registry.appendBatch(WALK_ID, points, start);
+
+        ArgumentCaptor<Double> totalDistance = ArgumentCaptor.forClass(Double.class);
+        verify(walkingPointWriter, times(1)).write(eq(WALK_ID), any(), totalDistance.capture(), any(), any());
+        // 위도 0.001도 ≈ 111m
+        assertThat(totalDistance.getValue()).isBetween(110.0, 112.0);
+    }
+
+    private List<GpsRingBuffer.Snapshot> captureWrites(int expectedWrites) {
+        ArgumentCaptor<GpsRingBuffer.Snapshot> captor = ArgumentCaptor.forClass(GpsRingBuffer.Snapshot.class);
+        verify(walkingPointWriter, times(expectedWrites)).write(eq(WALK_ID), captor.capture(), anyDouble(), any(), any());
+        return new ArrayList<>(captor.getAllValues());
+    }
+
+    private WalkingPointBatchRequest.Point point(double latitude, double longitude, LocalDateTime timestamp) {
+        WalkingPointBatchRequest.Point point = new WalkingPointBatchRequest.Point();
+        point.setLatitude(latitude);
+        point.setLongitude(longitude);
+        point.setTimestamp(timestamp);
+        return point;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.color_walk.service;
+
+import com.example.color_walk.common.exception.AiResponseException;
+import com.example.color_walk.common.exception.AiUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AiCallGuardTest {
+
+    private AiCallGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        // 최근 2건 중 실패율 50% 이상이면 1분간 차단
+        guard = new AiCallGuard(new SimpleMeterRegistry(), 2, 2, 50, 60_000, 1, 10, 10, 1_000);
+    }
+
+    @Test
+    void ignoresClientErrorsAndLocalRejections() {
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> guard.execute(() -> CompletableFuture.failedFuture(
+                    new AiResponseException(400, "bad request"))).join())
+                    .hasCauseInstanceOf(AiResponseException.class);
+            assertThatThrownBy(() -> guard.execute(() -> CompletableFuture.failedFuture(
+                    new AiUnavailableException("route limit"))).join())
+                    .hasCauseInstanceOf(AiUnavailableException.class);
+        }
+
+        assertThat(guard.execute(() -> CompletableFuture.completedFuture("ok")).join()).isEqualTo("ok");
+    }
+
+    @Test
+    void opensOnServerErrors() {
+        guard.execute(() -> CompletableFuture.failedFuture(new AiResponseException(503, "unavailable")));
+        guard.execute(() -> CompletableFuture.failedFuture(new AiResponseException(429, "too many requests")));
+
+        assertBlocked();
+    }
+
+    @Test
+    void opensOnTimeoutsAndIoErrors() {
+        guard.execute(() -> CompletableFuture.failedFuture(new TimeoutException()));
+        guard.execute(() -> CompletableFuture.failedFuture(new HttpTimeoutException("response timeout")));
+
+        assertBlocked();
+    }
+
+    private void assertBlocked() {
+        assertThatThrownBy(() -> guard.execute(() -> CompletableFuture.completedFuture("ok")).join())
+                .hasCauseInstanceOf(AiUnavailableException.class);
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.color_walk.service;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImagePreprocessorTest {
+
+    private static final int RED = 0xE53935;
+    private static final int BLUE = 0x1E88E5;
+
+    @Test
+    void downscalesToMaxLongEdge() throws IOException {
+        ImagePreprocessor preprocessor = new ImagePreprocessor(true, 512, 0.8f, 3_145_728);
+
+        ImagePreprocessor.PreparedImage prepared = preprocessor.prepare(jpeg(halves(2000, 1000)), "image/jpeg");
+
+        BufferedImage result = decode(prepared.getBytes());
+        assertThat(prepared.getMimeType()).isEqualTo("image/jpeg");
+        assertThat(result.getWidth()).isEqualTo(512);
+        assertThat(result.getHeight()).isEqualTo(256);
+    }
+
+    @Test
+    void fitsEveryImageIntoItsShareOfTheRequestBudget() throws IOException {
+        // 노이즈 이미지는 잘 압축되지 않으므로 품질과 크기를 모두 낮춰야 몫 안에 들어감
+        int budgetPerImage = 60_000;
+        ImagePreprocessor preprocessor = new ImagePreprocessor(true, 1024, 0.9f, 2L * budgetPerImage);
+        byte[] first = png(noise(1200, 900, 1));
+        byte[] second = png(noise(900, 1200, 2));
+
+        List<ImagePreprocessor.PreparedImage> prepared = preprocessor.prepare(
+                List.of(first, second), List.of("image/png", "image/png"));
+
+        assertThat(prepared).hasSize(2);
+        for (ImagePreprocessor.PreparedImage image : prepared) {
+            assertThat(image.getMimeType()).isEqualTo("image/jpeg");
+            assertThat(image.getBytes().length).isLessThanOrEqualTo(budgetPerImage);
+        }
+    }
+
+    @Test
+    void rotatesClockwiseForOrientationSix() throws IOException {
+        ImagePreprocessor preprocessor = new ImagePreprocessor(true, 1024, 0.9f, 3_145_728);
+
+        BufferedImage result = decode(preprocessor.prepare(withOrientation(jpeg(halves(200, 100)), 6), "image/jpeg")
+                .getBytes());
+
+        // 왼쪽(빨강)이 위로 올라감
+        assertThat(result.getWidth()).isEqualTo(100);
+        assertThat(result.getHeight()).isEqualTo(200);
+        assertThat(isRed(result.getRGB(50, 50))).isTrue();
+        assertThat(isRed(result.getRGB(50, 150))).isFalse();
+    }
+
+    @Test
+    void rotatesCounterClockwiseForOrientationEight() throws IOException {
+        ImagePreprocessor preprocessor = new ImagePreprocessor(true, 1024, 0.9f, 3_145_728);
+
+        BufferedImage result = decode(preprocessor.prepare(withOrientation(jpeg(halves(200, 100)), 8), "image/jpeg")
+                .getBytes());
+
+        // 왼쪽(빨강)이 아래로 내려감
+        assertThat(result.getWidth()).isEqualTo(100);
+        assertThat(result.getHeight()).isEqualTo(200);
+        assertThat(isRed(result.getRGB(50, 50))).isFalse();
+        assertThat(isRed(result.getRGB(50, 150))).isTrue();
+    }
+
+    @Test
+    void passesThroughUndecodableImages() {
+        ImagePreprocessor preprocessor = new ImagePreprocessor(true, 1024, 0.8f, 3_145_728);
+        byte[] heic = "not a decodable image".getBytes(StandardCharsets.UTF_8);
+
+        ImagePreprocessor.PreparedImage prepared = preprocessor.prepare(heic, "image/heic");
+
+        assertThat(prepared.getBytes()).isSameAs(heic);
+        assertThat(prepared.getMimeType()).isEqualTo("image/heic");
+    }
+
+    // 왼쪽 절반은 빨강, 오른쪽 절반은 파랑
+    private BufferedImage halves(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, x < width / 2 ? RED : BLUE);
+            }
+        }
+        return image;
+    }
+
+    private BufferedImage noise(int width, int height, long seed) {
+        Random random = new Random(seed);
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, random.nextInt(0x1000000));
+            }
+        }
+        return image;
+    }
+
+    private boolean isRed(int rgb) {
+        return ((rgb >> 16) & 0xFF) > 180 && (rgb & 0xFF) < 120;
+    }
+
+    /**
+     * JFIF(APP0) 세그먼트 뒤에 Orientation 태그 하나만 담은 EXIF(APP1) 세그먼트 삽입
+     */
+    private byte[] withOrientation(byte[] jpeg, int orientation) {
+        byte[] exif = {
+                'E', 'x', 'i', 'f', 0, 0,
+                'M', 'M', 0, 42, 0, 0, 0, 8,                             // TIFF 헤더 (빅 엔디언, IFD0 오프셋 8)
+                0, 1,                                                    // IFD0 항목 수
+                0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0, // Orientation, SHORT, 1개
+                0, 0, 0, 0                                               // 다음 IFD 없음
+        };
+        int app0End = 4 + (((jpeg[4] & 0xFF) << 8) | (jpeg[5] & 0xFF));
+        int segmentLength = exif.length + 2;
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(jpeg.length + segmentLength + 2);
+        out.write(jpeg, 0, app0End);
+        out.write(0xFF);
+        out.write(0xE1);
+        out.write(segmentLength >> 8);
+        out.write(segmentLength & 0xFF);
+        out.write(exif, 0, exif.length);
+        out.write(jpeg, app0End, jpeg.length - app0End);
+        return out.toByteArray();
+    }
+
+    private byte[] jpeg(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
+    private byte[] png(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private BufferedImage decode(byte[] bytes) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(bytes));
+    }
+}
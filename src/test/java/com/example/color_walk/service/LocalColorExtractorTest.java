@@ -0,0 +1,73 @@
+package com.example.color_walk.service;
+
+import com.example.color_walk.domain.Color;
+import com.example.color_walk.dto.response.ColorAnalysisResponse;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalColorExtractorTest {
+
+    private final LocalColorExtractor extractor = new LocalColorExtractor(128, 8, 12);
+
+    @Test
+    void bucketsTwoColourImageByArea() throws IOException {
+        // 왼쪽 3/4 는 빨강, 오른쪽 1/4 는 파랑
+        BufferedImage image = new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                image.setRGB(x, y, x < 150 ? 0xE53935 : 0x1E88E5);
+            }
+        }
+
+        LocalColorExtractor.Extraction extraction = extractor.extract(png(image)).orElseThrow();
+
+        List<ColorAnalysisResponse.DominantColor> colors = extraction.getDominantColors();
+        assertThat(colors).hasSize(2);
+        assertThat(colors.get(0).getName()).isEqualTo(Color.RED.getKoreanName());
+        assertThat(colors.get(0).getHex()).isEqualTo("#E53935");
+        assertThat(colors.get(0).getPercentage()).isEqualTo(75.0);
+        assertThat(colors.get(1).getName()).isEqualTo(Color.BLUE.getKoreanName());
+        assertThat(colors.get(1).getHex()).isEqualTo("#1E88E5");
+        assertThat(colors.get(1).getPercentage()).isEqualTo(25.0);
+        assertThat(extraction.getMood()).isEqualTo("warm");
+    }
+
+    @Test
+    void ignoresTransparentPixels() throws IOException {
+        // 위쪽 절반은 완전히 투명, 아래쪽 절반만 초록
+        BufferedImage image = new BufferedImage(64, 64, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 32; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                image.setRGB(x, y, 0xFF43A047);
+            }
+        }
+
+        List<ColorAnalysisResponse.DominantColor> colors = extractor.extract(png(image)).orElseThrow().getDominantColors();
+
+        assertThat(colors).hasSize(1);
+        assertThat(colors.get(0).getName()).isEqualTo(Color.GREEN.getKoreanName());
+        assertThat(colors.get(0).getPercentage()).isEqualTo(100.0);
+    }
+
+    @Test
+    void returnsEmptyForUndecodableOrFullyTransparentImages() throws IOException {
+        BufferedImage transparent = new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB);
+
+        assertThat(extractor.extract("not an image".getBytes(StandardCharsets.UTF_8))).isEmpty();
+        assertThat(extractor.extract(png(transparent))).isEmpty();
+    }
+
+    private byte[] png(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}